@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.benchmarks;
+
+/**
+ * Generators for the language data used within benchmarks
+ *
+ * @author CDAGaming
+ */
+public class BenchmarkData {
+    /**
+     * Generate a .Json Language File with the specified amount of keys
+     * <p>
+     * Each index produces a plain {@code benchmark.key.<index>} entry and a formatted {@code benchmark.format.<index>} entry
+     *
+     * @param count  The amount of indexes to generate
+     * @param prefix The prefix applied to each value
+     * @return the resulting language data
+     */
+    public static String generateJson(final int count, final String prefix) {
+        final StringBuilder sb = new StringBuilder("{\n");
+        for (int i = 0; i < count; i++) {
+            sb.append("  \"benchmark.key.").append(i).append("\": \"").append(prefix).append(" Value ").append(i).append("\",\n");
+            sb.append("  \"benchmark.format.").append(i).append("\": \"").append(prefix).append(" %s has %s points\"");
+            sb.append(i < count - 1 ? ",\n" : "\n");
+        }
+        return sb.append("}").toString();
+    }
+
+    /**
+     * Generate a .Lang Language File with the specified amount of keys
+     * <p>
+     * Each index produces a plain {@code benchmark.key.<index>} entry and a formatted {@code benchmark.format.<index>} entry
+     *
+     * @param count  The amount of indexes to generate
+     * @param prefix The prefix applied to each value
+     * @return the resulting language data
+     */
+    public static String generateLang(final int count, final String prefix) {
+        final StringBuilder sb = new StringBuilder("# Generated Benchmark Data\n");
+        for (int i = 0; i < count; i++) {
+            sb.append("benchmark.key.").append(i).append('=').append(prefix).append(" Value ").append(i).append('\n');
+            sb.append("benchmark.format.").append(i).append('=').append(prefix).append(" %s has %s points\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Generate a message with the specified amount of space-separated tokens
+     * <p>
+     * Every other token is a translation key, with the remainder being plain words
+     *
+     * @param tokens The amount of tokens to generate
+     * @return the resulting message
+     */
+    public static String generateMessage(final int tokens) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < tokens; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(i % 2 == 0 ? "benchmark.key." + i : "word");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.benchmarks;
+
+import io.github.cdagaming.unicore.utils.FileUtils;
+import io.github.cdagaming.unicore.utils.StringUtils;
+import io.github.cdagaming.unicore.utils.TranslationUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link TranslationUtils#getLocalizedMessage(String)} over messages of varying length
+ *
+ * @author CDAGaming
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalizedMessageBenchmark {
+    /**
+     * The amount of space-separated tokens within the message
+     */
+    @Param({"5", "50", "500"})
+    public int tokens;
+    /**
+     * The instance being benchmarked
+     */
+    private TranslationUtils translator;
+    /**
+     * The message to localize
+     */
+    private String message;
+
+    @Setup
+    public void setup() {
+        final String data = BenchmarkData.generateJson(tokens, "Localized");
+        translator = new TranslationUtils("benchmark", true)
+                .setCheckDeprecations(false)
+                .setResourceSupplier((instance, path) -> StringUtils.newArrayList(FileUtils.stringToStream(data, "UTF-8")))
+                .build();
+        message = BenchmarkData.generateMessage(tokens);
+    }
+
+    @Benchmark
+    public String getLocalizedMessage() {
+        return translator.getLocalizedMessage(message);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.benchmarks;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+import io.github.cdagaming.unicore.utils.TranslationUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for loading .Lang and .Json Language Files of varying size
+ * <p>
+ * Each invocation parses the generated file and publishes the resulting translations,
+ * without the translation cache
+ *
+ * @author CDAGaming
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+    /**
+     * The amount of keys within the generated Language File
+     */
+    @Param({"10000", "100000"})
+    public int keys;
+    /**
+     * The format of the generated Language File
+     */
+    @Param({"json", "lang"})
+    public String format;
+    /**
+     * The instance being benchmarked
+     */
+    private TranslationUtils translator;
+
+    @Setup
+    public void setup() {
+        final boolean usingJson = "json".equals(format);
+        // Each index produces two keys
+        final byte[] data = (usingJson ?
+                BenchmarkData.generateJson(keys / 2, "Parsed") :
+                BenchmarkData.generateLang(keys / 2, "Parsed")).getBytes(StandardCharsets.UTF_8);
+        translator = new TranslationUtils("benchmark", usingJson)
+                .setCheckDeprecations(false)
+                .setResourceSupplier((instance, path) -> StringUtils.newArrayList(new ByteArrayInputStream(data)))
+                .build();
+    }
+
+    @Benchmark
+    public void loadTranslations() {
+        translator.syncTranslations("en_us", false);
+    }
+}
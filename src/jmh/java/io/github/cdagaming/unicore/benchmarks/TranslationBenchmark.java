@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.benchmarks;
+
+import io.github.cdagaming.unicore.utils.FileUtils;
+import io.github.cdagaming.unicore.utils.StringUtils;
+import io.github.cdagaming.unicore.utils.TranslationUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link TranslationUtils} paths used on every frame
+ * <p>
+ * The current language is {@code fr_fr}, with {@code en_us} as the default (fallback) language
+ *
+ * @author CDAGaming
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslationBenchmark {
+    /**
+     * The amount of keys present in each generated language
+     */
+    private static final int KEY_COUNT = 1000;
+    /**
+     * The instance being benchmarked, polling for language changes
+     */
+    private TranslationUtils translator;
+    /**
+     * The instance being benchmarked, receiving language change notifications
+     */
+    private TranslationUtils notifiedTranslator;
+
+    /**
+     * Create a new instance, with generated translations for the current and default languages
+     *
+     * @return the resulting instance
+     */
+    private static TranslationUtils createTranslator() {
+        final String defaultData = BenchmarkData.generateJson(KEY_COUNT, "Default");
+        final String currentData = BenchmarkData.generateJson(KEY_COUNT / 2, "Current");
+        final TranslationUtils result = new TranslationUtils("benchmark", true)
+                .setCheckDeprecations(false)
+                .setLanguageSupplier("fr_fr")
+                .setResourceSupplier((instance, path) -> StringUtils.newArrayList(FileUtils.stringToStream(
+                        path.endsWith("fr_fr.json") ? currentData : defaultData, "UTF-8"
+                )))
+                .build();
+        // The first tick completes the initial sync, with the second switching to the current language
+        result.onTick();
+        result.onTick();
+        return result;
+    }
+
+    @Setup
+    public void setup() {
+        translator = createTranslator();
+        notifiedTranslator = createTranslator();
+        notifiedTranslator.notifyLanguageChanged("fr_fr");
+        notifiedTranslator.onTick();
+    }
+
+    @Benchmark
+    public String translateHit() {
+        return translator.translate("benchmark.key.10");
+    }
+
+    @Benchmark
+    public String translateMiss() {
+        return translator.translate("benchmark.missing");
+    }
+
+    @Benchmark
+    public String translateFallback() {
+        return translator.translate("benchmark.key." + (KEY_COUNT - 1));
+    }
+
+    @Benchmark
+    public String translateParameterized() {
+        return translator.translate("benchmark.format.10", "Player", 42);
+    }
+
+    @Benchmark
+    public void onTickPolling() {
+        translator.onTick();
+    }
+
+    @Benchmark
+    public void onTickNotified() {
+        notifiedTranslator.onTick();
+    }
+}
@@ -0,0 +1,458 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package io.github.cdagaming.unicore.integrations.scanning;
+
+import io.github.cdagaming.unicore.utils.MappingUtils;
+import io.github.cdagaming.unicore.utils.StringUtils;
+import io.github.classgraph.ClassInfo;
+
+import java.util.*;
+
+/**
+ * An immutable index of detected classes, alongside the classpath elements they were found in
+ * <p>
+ * Instances are never modified once built, and may be safely shared between threads.
+ * Derived indexes, such as the sorted class names and the inverted class hierarchy,
+ * are built on first use and retained for the lifetime of the index
+ *
+ * @author CDAGaming
+ */
+public class ClassIndex {
+    /**
+     * An index containing no classes
+     */
+    public static final ClassIndex EMPTY = new Builder().build();
+    /**
+     * The detected classes, for classes found through a full class scan
+     * <p>
+     * Format: className:classInfo
+     */
+    private final Map<String, ClassInfo> classInfo;
+    /**
+     * The detected class descriptors, which may be populated from the class scan cache
+     * <p>
+     * Format: className:scannedClass
+     */
+    private final Map<String, ScannedClass> classes;
+    /**
+     * The classpath elements the detected classes were scanned from, in classpath order
+     * <p>
+     * Format: elementPath:element
+     */
+    private final Map<String, ClasspathElement> elements;
+    /**
+     * Whether every detected class belongs to one of {@link ClassIndex#elements}, allowing this index to be cached
+     */
+    private final boolean complete;
+    /**
+     * The memoized results of {@link ClassIndex#getSubTypes(String, String...)} queries
+     * <p>
+     * Format: [typeName, sortedPaths...]:classNames
+     */
+    private final Map<List<String>, Set<String>> subTypeQueries = StringUtils.newConcurrentHashMap();
+    /**
+     * The sorted names of the detected classes, used for package prefix queries, or null if not yet built
+     */
+    private volatile String[] sortedClassNames = null;
+    /**
+     * The inverted class hierarchy of the detected classes, or null if not yet built
+     * <p>
+     * Format: superTypeName:[subTypeNames], covering both superclasses and implemented interfaces
+     */
+    private volatile Map<String, Set<String>> subTypeIndex = null;
+
+    /**
+     * Initialize a new index, taking ownership of the specified maps
+     *
+     * @param classInfo The detected classes
+     * @param classes   The detected class descriptors
+     * @param elements  The classpath elements the detected classes were scanned from
+     * @param complete  Whether every detected class belongs to one of the classpath elements
+     */
+    private ClassIndex(final Map<String, ClassInfo> classInfo, final Map<String, ScannedClass> classes, final Map<String, ClasspathElement> elements, final boolean complete) {
+        this.classInfo = Collections.unmodifiableMap(classInfo);
+        this.classes = Collections.unmodifiableMap(classes);
+        this.elements = Collections.unmodifiableMap(elements);
+        this.complete = complete;
+    }
+
+    /**
+     * Retrieve the detected classes, for classes found through a full class scan
+     *
+     * @return an unmodifiable view of the detected classes
+     */
+    public Map<String, ClassInfo> getClassInfo() {
+        return classInfo;
+    }
+
+    /**
+     * Retrieve the detected class descriptors
+     *
+     * @return an unmodifiable view of the detected class descriptors
+     */
+    public Map<String, ScannedClass> getClasses() {
+        return classes;
+    }
+
+    /**
+     * Retrieve the classpath elements the detected classes were scanned from
+     *
+     * @return an unmodifiable view of the classpath elements, in classpath order
+     */
+    public Map<String, ClasspathElement> getElements() {
+        return elements;
+    }
+
+    /**
+     * Return whether every detected class belongs to one of the classpath elements
+     * <p>
+     * Classes outside of any known element would be lost when reading the class scan cache,
+     * so incomplete indexes should not be stored in it
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Retrieve all entries from the specified map matching the specified lists of paths
+     * <p>
+     * Package prefixes are resolved through a binary search over {@link ClassIndex#getSortedClassNames()},
+     * so that each query only visits its matching classes
+     *
+     * @param source The classes to interpret, keyed by a subset of the detected class names
+     * @param paths  A nullable list of paths to be interpreted
+     * @param <T>    The class data type
+     * @return an unmodifiable view of the matching entries
+     */
+    public <T> Map<String, T> filter(final Map<String, T> source, final String... paths) {
+        if (paths == null || paths.length == 0) {
+            return Collections.unmodifiableMap(source);
+        }
+
+        final Map<String, T> results = StringUtils.newHashMap();
+        final String[] classNames = getSortedClassNames();
+        for (String path : paths) {
+            // Attempt to Add Classes Matching any of the Source Packages
+            final int searchIndex = Arrays.binarySearch(classNames, path);
+            for (int index = searchIndex >= 0 ? searchIndex : -(searchIndex + 1); index < classNames.length && classNames[index].startsWith(path); index++) {
+                putIfPresent(source, classNames[index], results);
+            }
+            for (String unmapped : MappingUtils.getUnmappedClassesMatching(path)) {
+                putIfPresent(source, unmapped, results);
+            }
+        }
+        return Collections.unmodifiableMap(results);
+    }
+
+    /**
+     * Retrieve the names of all detected classes that extend or implement the specified type,
+     * within the specified packages, alongside the class hierarchy between each match and the specified type
+     * <p>
+     * Results are found by traversing {@link ClassIndex#getSubTypeIndex()} from the specified type,
+     * and are memoized for the lifetime of this index
+     *
+     * @param typeName The mapped name of the super type to interpret
+     * @param paths    The root package directories to search within, or none to search all classes
+     * @return the matching class names, including the specified type if any matches were found or if it is within the packages
+     */
+    public Set<String> getSubTypes(final String typeName, final String... paths) {
+        final String[] sortedPaths = paths != null ? paths.clone() : new String[0];
+        Arrays.sort(sortedPaths);
+        final List<String> query = StringUtils.newArrayList(typeName);
+        query.addAll(Arrays.asList(sortedPaths));
+        final Set<String> cached = subTypeQueries.get(query);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Find every subtype of the target type, traversing downwards from it
+        final Map<String, Set<String>> index = getSubTypeIndex();
+        final Set<String> subTypes = StringUtils.newHashSet();
+        final Deque<String> stack = new ArrayDeque<>();
+        stack.push(typeName);
+        while (!stack.isEmpty()) {
+            final Set<String> children = index.get(stack.pop());
+            if (children != null) {
+                for (String child : children) {
+                    if (subTypes.add(child)) {
+                        stack.push(child);
+                    }
+                }
+            }
+        }
+
+        // Add each subtype within the source packages, alongside its hierarchy up to the target type
+        final Set<String> candidates = sortedPaths.length > 0 ? filter(classes, sortedPaths).keySet() : null;
+        final Set<String> results = StringUtils.newHashSet();
+        for (String subType : subTypes) {
+            if (candidates == null || candidates.contains(subType)) {
+                stack.push(subType);
+            }
+        }
+        if (candidates != null ? candidates.contains(typeName) : classes.containsKey(typeName)) {
+            results.add(typeName);
+        }
+        while (!stack.isEmpty()) {
+            final String className = stack.pop();
+            if (results.add(className)) {
+                final ScannedClass scannedClass = classes.get(className);
+                if (scannedClass != null) {
+                    for (String superclassName : scannedClass.getSuperclassNames()) {
+                        pushIfSubType(MappingUtils.getMappedPath(superclassName), subTypes, stack);
+                    }
+                    for (String interfaceName : scannedClass.getInterfaceNames()) {
+                        pushIfSubType(MappingUtils.getMappedPath(interfaceName), subTypes, stack);
+                    }
+                }
+            }
+        }
+        if (!results.isEmpty()) {
+            results.add(typeName);
+        }
+
+        final Set<String> result = Collections.unmodifiableSet(results);
+        subTypeQueries.put(query, result);
+        return result;
+    }
+
+    /**
+     * Add the specified class name to the stack, if it is one of the specified subtypes
+     *
+     * @param className The class name to interpret
+     * @param subTypes  The subtypes to interpret
+     * @param stack     The stack to add to
+     */
+    private static void pushIfSubType(final String className, final Set<String> subTypes, final Deque<String> stack) {
+        if (subTypes.contains(className)) {
+            stack.push(className);
+        }
+    }
+
+    /**
+     * Copy the specified entry from one map to another, if present
+     *
+     * @param source The map to copy from
+     * @param key    The key to interpret
+     * @param target The map to copy to
+     * @param <T>    The value type
+     */
+    private static <T> void putIfPresent(final Map<String, T> source, final String key, final Map<String, T> target) {
+        final T value = source.get(key);
+        if (value != null) {
+            target.put(key, value);
+        }
+    }
+
+    /**
+     * Retrieve the sorted names of the detected classes, building them if needed
+     * <p>
+     * Concurrent callers may each build the same result, with either one being retained
+     *
+     * @return the sorted class names
+     */
+    private String[] getSortedClassNames() {
+        String[] result = sortedClassNames;
+        if (result == null) {
+            result = classes.keySet().toArray(new String[0]);
+            Arrays.sort(result);
+            sortedClassNames = result;
+        }
+        return result;
+    }
+
+    /**
+     * Retrieve the inverted class hierarchy of the detected classes, building it if needed
+     * <p>
+     * Superclasses are indexed from the superclass names of each detected class, so that
+     * superclasses which were not themselves detected still link their subtypes
+     * <p>
+     * Concurrent callers may each build the same result, with either one being retained
+     *
+     * @return the inverted class hierarchy, mapping each super type to its direct subtypes
+     */
+    private Map<String, Set<String>> getSubTypeIndex() {
+        Map<String, Set<String>> result = subTypeIndex;
+        if (result == null) {
+            result = StringUtils.newHashMap();
+            for (Map.Entry<String, ScannedClass> entry : classes.entrySet()) {
+                final ScannedClass scannedClass = entry.getValue();
+                String subType = entry.getKey();
+                for (String superclassName : scannedClass.getSuperclassNames()) {
+                    final String superType = MappingUtils.getMappedPath(superclassName);
+                    result.computeIfAbsent(superType, k -> StringUtils.newHashSet()).add(subType);
+                    subType = superType;
+                }
+                for (String interfaceName : scannedClass.getInterfaceNames()) {
+                    result.computeIfAbsent(MappingUtils.getMappedPath(interfaceName), k -> StringUtils.newHashSet()).add(entry.getKey());
+                }
+            }
+            subTypeIndex = result;
+        }
+        return result;
+    }
+
+    /**
+     * A mutable working copy of a {@link ClassIndex}, used while classes are being scanned
+     * <p>
+     * Builders are confined to the scanning thread, and should not be used after {@link Builder#build()}
+     */
+    public static class Builder {
+        /**
+         * The detected classes, for classes found through a full class scan
+         */
+        private final Map<String, ClassInfo> classInfo;
+        /**
+         * The detected class descriptors
+         */
+        private final Map<String, ScannedClass> classes;
+        /**
+         * The classpath elements the detected classes were scanned from, in classpath order
+         */
+        private final Map<String, ClasspathElement> elements;
+        /**
+         * Whether every detected class belongs to one of the classpath elements
+         */
+        private boolean complete = true;
+
+        /**
+         * Initialize a new builder, containing no classes
+         */
+        public Builder() {
+            this.classInfo = StringUtils.newHashMap();
+            this.classes = StringUtils.newHashMap();
+            this.elements = StringUtils.newLinkedHashMap();
+        }
+
+        /**
+         * Initialize a new builder, containing the classes of the specified index
+         *
+         * @param source The index to copy from
+         */
+        public Builder(final ClassIndex source) {
+            this.classInfo = StringUtils.newHashMap(source.classInfo);
+            this.classes = StringUtils.newHashMap(source.classes);
+            this.elements = StringUtils.newLinkedHashMap(source.elements);
+            this.complete = source.complete;
+        }
+
+        /**
+         * Return whether a class descriptor is present for the specified class name
+         *
+         * @param className The class name to interpret
+         * @return {@link Boolean#TRUE} if condition is satisfied
+         */
+        public boolean hasClass(final String className) {
+            return classes.containsKey(className);
+        }
+
+        /**
+         * Retrieve the class descriptor stored for the specified class name
+         *
+         * @param className The mapped class name to interpret
+         * @return the stored class descriptor, or null if not present
+         */
+        public ScannedClass getScannedClass(final String className) {
+            return classes.get(className);
+        }
+
+        /**
+         * Add the specified class to this builder, replacing any class stored under the same name
+         * <p>
+         * The class info of the descriptor, if present, is stored alongside it
+         *
+         * @param className    The mapped class name to store the class under
+         * @param scannedClass The class descriptor to store
+         * @return the current instance, used for chain-building
+         */
+        public Builder putClass(final String className, final ScannedClass scannedClass) {
+            final ClassInfo info = scannedClass.getClassInfo();
+            if (info != null) {
+                classInfo.put(className, info);
+            } else {
+                classInfo.remove(className);
+            }
+            classes.put(className, scannedClass);
+            return this;
+        }
+
+        /**
+         * Store the class info for an existing class descriptor, such as one read from the class scan cache
+         *
+         * @param className The mapped class name to interpret
+         * @param info      The class info to store
+         * @return the current instance, used for chain-building
+         */
+        public Builder putClassInfo(final String className, final ClassInfo info) {
+            if (classes.containsKey(className)) {
+                classInfo.put(className, info);
+            }
+            return this;
+        }
+
+        /**
+         * Remove the specified class from this builder
+         *
+         * @param className The mapped class name to interpret
+         * @return the current instance, used for chain-building
+         */
+        public Builder removeClass(final String className) {
+            classes.remove(className);
+            classInfo.remove(className);
+            return this;
+        }
+
+        /**
+         * Retrieve the classpath elements within this builder
+         *
+         * @return the classpath elements, in classpath order
+         */
+        public Map<String, ClasspathElement> getElements() {
+            return elements;
+        }
+
+        /**
+         * Sets whether every detected class belongs to one of the classpath elements
+         *
+         * @param complete the new "complete" state
+         * @return the current instance, used for chain-building
+         */
+        public Builder setComplete(final boolean complete) {
+            this.complete = complete;
+            return this;
+        }
+
+        /**
+         * Build an immutable index from the current contents of this builder
+         *
+         * @return the resulting index
+         */
+        public ClassIndex build() {
+            return new ClassIndex(classInfo, classes, elements, complete);
+        }
+    }
+}
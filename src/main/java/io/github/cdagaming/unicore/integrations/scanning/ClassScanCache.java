@@ -0,0 +1,286 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.integrations.scanning;
+
+import io.github.cdagaming.unicore.UniCore;
+import io.github.cdagaming.unicore.utils.FileUtils;
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Binary on-disk cache for class scan results, grouped by the classpath element they were scanned from
+ * <p>
+ * Format: header (magic, version, settings fingerprint), a name table of every distinct class name,
+ * and an entry per classpath element of (path, fingerprint, classes), with each class stored as
+ * (name, superclasses, interfaces) indexes into the name table
+ *
+ * @author CDAGaming
+ */
+public class ClassScanCache {
+    /**
+     * The identifier written to the start of each cache file
+     */
+    private static final int MAGIC = 0x55435343;
+    /**
+     * The current cache format version, incremented on incompatible changes
+     */
+    private static final int VERSION = 3;
+
+    /**
+     * Compute the fingerprint for the specified scanning options
+     *
+     * @param extras The scanning options that affect the resulting data
+     * @return the resulting fingerprint
+     */
+    public static byte[] getSettingsFingerprint(final String... extras) {
+        final MessageDigest digest = createDigest();
+        for (String extra : extras) {
+            digest.update(extra.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Compute the fingerprint for the specified classpath element
+     * <p>
+     * Files contribute their size and modification time, with directories
+     * contributing the relative path, size and modification time of every file within them
+     *
+     * @param element The classpath element to interpret
+     * @return the resulting fingerprint
+     */
+    public static byte[] getElementFingerprint(final File element) {
+        final MessageDigest digest = createDigest();
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+        try {
+            if (element.isDirectory()) {
+                final Path root = element.toPath();
+                try (Stream<Path> files = Files.walk(root)) {
+                    final Iterator<Path> iterator = files.iterator();
+                    while (iterator.hasNext()) {
+                        final Path file = iterator.next();
+                        final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                        if (attributes.isRegularFile()) {
+                            digest.update(root.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                            buffer.clear();
+                            digest.update(buffer.putLong(attributes.size()).putLong(attributes.lastModifiedTime().toMillis()).array());
+                        }
+                    }
+                }
+            } else {
+                digest.update(buffer.putLong(element.length()).putLong(element.lastModified()).array());
+            }
+        } catch (IOException ex) {
+            // An unreadable element is treated as modified, so that it is always rescanned
+            UniCore.LOG.debugError(ex);
+            digest.update(buffer.putLong(System.nanoTime()).array());
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Create a new digest for computing fingerprints
+     *
+     * @return the resulting digest
+     */
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (Exception ex) {
+            throw new IllegalStateException("Unable to compute class scan fingerprint", ex);
+        }
+    }
+
+    /**
+     * Read cached scan results from the specified file, if present and matching the specified settings
+     * <p>
+     * The fingerprint of each classpath element is returned as stored, and should be compared
+     * against its current fingerprint to determine whether it needs to be rescanned
+     *
+     * @param file        The cache file to interpret
+     * @param fingerprint The expected settings fingerprint
+     * @return the cached classpath elements, or null if not present or out of date
+     */
+    public static List<ClasspathElement> read(final File file, final byte[] fingerprint) {
+        if (!file.isFile()) return null;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            final byte[] storedFingerprint = new byte[in.readUnsignedByte()];
+            in.readFully(storedFingerprint);
+            if (!Arrays.equals(storedFingerprint, fingerprint)) {
+                return null;
+            }
+
+            final String[] names = new String[in.readInt()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = readString(in);
+            }
+            final int elementCount = in.readInt();
+            final List<ClasspathElement> results = StringUtils.newArrayList();
+            for (int i = 0; i < elementCount; i++) {
+                final String path = readString(in);
+                final byte[] elementFingerprint = new byte[in.readUnsignedByte()];
+                in.readFully(elementFingerprint);
+
+                final int classCount = in.readInt();
+                final List<ScannedClass> classes = StringUtils.newArrayList();
+                for (int j = 0; j < classCount; j++) {
+                    final String name = names[in.readInt()];
+                    final List<String> superclasses = StringUtils.newArrayList();
+                    for (int k = in.readInt(); k > 0; k--) {
+                        superclasses.add(names[in.readInt()]);
+                    }
+                    final List<String> interfaces = StringUtils.newArrayList();
+                    for (int k = in.readInt(); k > 0; k--) {
+                        interfaces.add(names[in.readInt()]);
+                    }
+                    classes.add(new ScannedClass(name, superclasses, interfaces));
+                }
+                results.add(new ClasspathElement(path, elementFingerprint, classes));
+            }
+            return results;
+        } catch (Exception ex) {
+            UniCore.LOG.debugError("Unable to read class scan cache @ " + file.getAbsolutePath());
+            UniCore.LOG.debugError(ex);
+            return null;
+        }
+    }
+
+    /**
+     * Write the specified scan results to the specified cache file
+     *
+     * @param file        The cache file to write to
+     * @param fingerprint The fingerprint of the scanning options
+     * @param elements    The scanned classpath elements to store
+     */
+    public static void write(final File file, final byte[] fingerprint, final Collection<ClasspathElement> elements) {
+        final Map<String, Integer> nameIndexes = StringUtils.newLinkedHashMap();
+        for (ClasspathElement element : elements) {
+            for (ScannedClass scannedClass : element.getClasses()) {
+                getIndex(scannedClass.getName(), nameIndexes);
+                for (String superclassName : scannedClass.getSuperclassNames()) {
+                    getIndex(superclassName, nameIndexes);
+                }
+                for (String interfaceName : scannedClass.getInterfaceNames()) {
+                    getIndex(interfaceName, nameIndexes);
+                }
+            }
+        }
+
+        try {
+            final File tempFile = new File(file.getParentFile(), file.getName() + ".tmp");
+            FileUtils.assertFileExists(tempFile);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile.toPath())))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeByte(fingerprint.length);
+                out.write(fingerprint);
+                out.writeInt(nameIndexes.size());
+                for (String name : nameIndexes.keySet()) {
+                    writeString(name, out);
+                }
+                out.writeInt(elements.size());
+                for (ClasspathElement element : elements) {
+                    writeString(element.getPath(), out);
+                    out.writeByte(element.getFingerprint().length);
+                    out.write(element.getFingerprint());
+                    out.writeInt(element.getClasses().size());
+                    for (ScannedClass scannedClass : element.getClasses()) {
+                        out.writeInt(nameIndexes.get(scannedClass.getName()));
+                        out.writeInt(scannedClass.getSuperclassNames().size());
+                        for (String superclassName : scannedClass.getSuperclassNames()) {
+                            out.writeInt(nameIndexes.get(superclassName));
+                        }
+                        out.writeInt(scannedClass.getInterfaceNames().size());
+                        for (String interfaceName : scannedClass.getInterfaceNames()) {
+                            out.writeInt(nameIndexes.get(interfaceName));
+                        }
+                    }
+                }
+            }
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (Exception ex) {
+            UniCore.LOG.debugError("Unable to write class scan cache @ " + file.getAbsolutePath());
+            UniCore.LOG.debugError(ex);
+        }
+    }
+
+    /**
+     * Retrieve the name table index of the specified name, adding it if not yet present
+     *
+     * @param name    The name to interpret
+     * @param indexes The indexes of previously added names
+     * @return the index of the name within the name table
+     */
+    private static int getIndex(final String name, final Map<String, Integer> indexes) {
+        final Integer existing = indexes.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        final int index = indexes.size();
+        indexes.put(name, index);
+        return index;
+    }
+
+    /**
+     * Read a length-prefixed UTF-8 string from the specified stream
+     *
+     * @param in The stream to interpret
+     * @return the resulting string
+     * @throws IOException if unable to read the data
+     */
+    private static String readString(final DataInputStream in) throws IOException {
+        final byte[] data = new byte[in.readInt()];
+        in.readFully(data);
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Write a length-prefixed UTF-8 string to the specified stream
+     *
+     * @param value The string to write
+     * @param out   The stream to write to
+     * @throws IOException if unable to write the data
+     */
+    private static void writeString(final String value, final DataOutputStream out) throws IOException {
+        final byte[] data = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(data.length);
+        out.write(data);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.integrations.scanning;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A scanned classpath element, such as a jar or directory, alongside the classes it provided
+ *
+ * @author CDAGaming
+ */
+public class ClasspathElement {
+    /**
+     * The absolute path of this element
+     */
+    private final String path;
+    /**
+     * The fingerprint of this element at the time it was scanned
+     */
+    private final byte[] fingerprint;
+    /**
+     * The classes provided by this element
+     */
+    private final List<ScannedClass> classes;
+
+    /**
+     * Initialize a new classpath element, with the specified arguments
+     *
+     * @param path        The absolute path of this element
+     * @param fingerprint The fingerprint of this element at the time it was scanned
+     * @param classes     The classes provided by this element
+     */
+    public ClasspathElement(final String path, final byte[] fingerprint, final List<ScannedClass> classes) {
+        this.path = path;
+        this.fingerprint = fingerprint;
+        this.classes = Collections.unmodifiableList(classes);
+    }
+
+    /**
+     * Retrieve the absolute path of this element
+     *
+     * @return the element path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Retrieve the fingerprint of this element at the time it was scanned
+     *
+     * @return the element fingerprint
+     * @see ClassScanCache#getElementFingerprint(java.io.File)
+     */
+    public byte[] getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Retrieve the classes provided by this element
+     *
+     * @return the provided classes
+     */
+    public List<ScannedClass> getClasses() {
+        return classes;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
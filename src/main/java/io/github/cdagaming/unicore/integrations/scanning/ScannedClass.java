@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.integrations.scanning;
+
+import io.github.classgraph.ClassInfo;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A name-based description of a scanned class, which remains valid after its scan has been closed
+ * and can be stored within a {@link ClassScanCache}
+ *
+ * @author CDAGaming
+ */
+public class ScannedClass {
+    /**
+     * The fully qualified name of this class
+     */
+    private final String name;
+    /**
+     * The fully qualified names of the superclasses of this class, in ascending order
+     * <p>
+     * This includes superclasses that were not themselves scanned, so long as their names are known
+     */
+    private final List<String> superclassNames;
+    /**
+     * The fully qualified names of the interfaces implemented by this class
+     */
+    private final List<String> interfaceNames;
+    /**
+     * The class info this class was scanned from, or null if retrieved from a {@link ClassScanCache}
+     */
+    private final ClassInfo classInfo;
+
+    /**
+     * Initialize a new scanned class, with the specified arguments
+     *
+     * @param name            The fully qualified name of this class
+     * @param superclassNames The fully qualified names of the superclasses of this class, in ascending order
+     * @param interfaceNames  The fully qualified names of the interfaces implemented by this class
+     * @param classInfo       The class info this class was scanned from, or null if not available
+     */
+    private ScannedClass(final String name, final List<String> superclassNames, final List<String> interfaceNames, final ClassInfo classInfo) {
+        this.name = name;
+        this.superclassNames = Collections.unmodifiableList(superclassNames);
+        this.interfaceNames = Collections.unmodifiableList(interfaceNames);
+        this.classInfo = classInfo;
+    }
+
+    /**
+     * Initialize a new scanned class, with the specified arguments
+     *
+     * @param name            The fully qualified name of this class
+     * @param superclassNames The fully qualified names of the superclasses of this class, in ascending order
+     * @param interfaceNames  The fully qualified names of the interfaces implemented by this class
+     */
+    public ScannedClass(final String name, final List<String> superclassNames, final List<String> interfaceNames) {
+        this(name, superclassNames, interfaceNames, null);
+    }
+
+    /**
+     * Initialize a new scanned class, from the specified class info
+     *
+     * @param classInfo The class info to interpret
+     * @return the resulting scanned class
+     */
+    public static ScannedClass from(final ClassInfo classInfo) {
+        return new ScannedClass(
+                classInfo.getName(),
+                classInfo.getSuperclasses().getNames(),
+                classInfo.getInterfaces().getNames(),
+                classInfo
+        );
+    }
+
+    /**
+     * Retrieve the fully qualified name of this class
+     *
+     * @return the class name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieve the class info this class was scanned from
+     *
+     * @return the class info, or null if this class was retrieved from a {@link ClassScanCache}
+     */
+    public ClassInfo getClassInfo() {
+        return classInfo;
+    }
+
+    /**
+     * Retrieve the simple name of this class
+     *
+     * @return the simple class name
+     */
+    public String getSimpleName() {
+        return name.substring(Math.max(name.lastIndexOf('.'), name.lastIndexOf('$')) + 1);
+    }
+
+    /**
+     * Retrieve the fully qualified name of the superclass of this class
+     *
+     * @return the superclass name, or null if not present
+     */
+    public String getSuperclassName() {
+        return !superclassNames.isEmpty() ? superclassNames.get(0) : null;
+    }
+
+    /**
+     * Retrieve the fully qualified names of the superclasses of this class, in ascending order
+     *
+     * @return the superclass names, including superclasses that were not themselves scanned
+     */
+    public List<String> getSuperclassNames() {
+        return superclassNames;
+    }
+
+    /**
+     * Retrieve the fully qualified names of the interfaces implemented by this class
+     *
+     * @return the interface names
+     */
+    public List<String> getInterfaceNames() {
+        return interfaceNames;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.integrations.translation;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable, memory-compact mapping of translations
+ * <p>
+ * Keys are shared through the owning {@link TranslationKeyRegistry}, if any, and values are stored within a single character arena,
+ * with identical values stored only once. Each distinct value is materialized into a string on first retrieval,
+ * and reused on later calls, so that only the values in use are held as strings
+ *
+ * @author CDAGaming
+ */
+public class PackedTranslationMap extends AbstractMap<String, String> {
+    /**
+     * The keys within this map, by entry index
+     */
+    private final String[] keys;
+    /**
+     * The distinct value index of each entry, by entry index
+     */
+    private final int[] valueIds;
+    /**
+     * The offset of each distinct value within {@link PackedTranslationMap#arena}, by value index
+     */
+    private final int[] offsets;
+    /**
+     * The length of each distinct value within {@link PackedTranslationMap#arena}, by value index
+     */
+    private final int[] lengths;
+    /**
+     * The materialized strings of each distinct value, by value index, populated on first retrieval
+     * <p>
+     * Races between threads are benign, as strings are immutable and any materialized copy is equal
+     */
+    private final String[] values;
+    /**
+     * The character data of all values within this map
+     */
+    private final char[] arena;
+    /**
+     * The open-addressed hash index, storing each entry index plus one, with zero marking an empty slot
+     */
+    private final int[] slots;
+    /**
+     * The cached entry set view of this map
+     */
+    private Set<Entry<String, String>> entrySet;
+
+    /**
+     * Initialize a new packed map, copying the specified data
+     *
+     * @param translations The translations to store
+     * @param registry     The registry to share keys through, or null to store keys as-is
+     */
+    public PackedTranslationMap(final Map<String, String> translations, final TranslationKeyRegistry registry) {
+        final int count = translations.size();
+        this.keys = new String[count];
+        this.valueIds = new int[count];
+
+        int capacity = 2;
+        while (capacity < count * 2) {
+            capacity <<= 1;
+        }
+        this.slots = new int[capacity];
+
+        final Map<String, Integer> valueIndexes = StringUtils.newHashMap();
+        final int[] valueOffsets = new int[count];
+        final StringBuilder data = new StringBuilder();
+        int position = 0;
+        for (Entry<String, String> entry : translations.entrySet()) {
+            final String key = registry != null ? registry.intern(entry.getKey()).getKey() : entry.getKey();
+            final String value = entry.getValue();
+            Integer valueId = valueIndexes.get(value);
+            if (valueId == null) {
+                valueId = valueIndexes.size();
+                valueOffsets[valueId] = data.length();
+                data.append(value);
+                valueIndexes.put(value, valueId);
+            }
+            keys[position] = key;
+            valueIds[position] = valueId;
+
+            int slot = getSlot(key);
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & (slots.length - 1);
+            }
+            slots[slot] = ++position;
+        }
+        this.arena = new char[data.length()];
+        data.getChars(0, arena.length, arena, 0);
+
+        final int valueCount = valueIndexes.size();
+        this.offsets = Arrays.copyOf(valueOffsets, valueCount);
+        this.lengths = new int[valueCount];
+        for (int i = 0; i < valueCount; i++) {
+            lengths[i] = (i + 1 < valueCount ? offsets[i + 1] : arena.length) - offsets[i];
+        }
+        this.values = new String[valueCount];
+    }
+
+    /**
+     * Retrieve the initial hash index slot for the specified key
+     *
+     * @param key The key to interpret
+     * @return the initial slot for this key
+     */
+    private int getSlot(final Object key) {
+        final int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (slots.length - 1);
+    }
+
+    /**
+     * Retrieve the entry index of the specified key
+     *
+     * @param key The key to interpret
+     * @return the entry index of this key, or -1 if not present
+     */
+    public int indexOf(final Object key) {
+        if (!(key instanceof String)) return -1;
+
+        int slot = getSlot(key);
+        int entry;
+        while ((entry = slots[slot] - 1) >= 0) {
+            final String existing = keys[entry];
+            if (existing == key || existing.equals(key)) {
+                return entry;
+            }
+            slot = (slot + 1) & (slots.length - 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Retrieve the value at the specified entry index
+     *
+     * @param index The entry index to interpret
+     * @return the value at this index
+     */
+    public String getValueAt(final int index) {
+        final int valueId = valueIds[index];
+        String value = values[valueId];
+        if (value == null) {
+            value = new String(arena, offsets[valueId], lengths[valueId]);
+            values[valueId] = value;
+        }
+        return value;
+    }
+
+    @Override
+    public String get(final Object key) {
+        final int index = indexOf(key);
+        return index >= 0 ? getValueAt(index) : null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<String, String>>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new Iterator<Entry<String, String>>() {
+                        private int index = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < keys.length;
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            final int current = index++;
+                            return new SimpleImmutableEntry<>(keys[current], getValueAt(current));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return keys.length;
+                }
+            };
+        }
+        return entrySet;
+    }
+}
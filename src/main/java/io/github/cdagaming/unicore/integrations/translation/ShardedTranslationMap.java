@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.integrations.translation;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.lang.ref.SoftReference;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An immutable mapping of translations, parsing each shard of a {@link TranslationShardIndex} on first access
+ * <p>
+ * Parsed shards are softly referenced, so that shards which are no longer in use may be reclaimed under memory pressure,
+ * to be parsed again if requested. Operations over the whole map, such as {@link ShardedTranslationMap#entrySet()},
+ * parse every shard, and are intended for infrequent use
+ * <p>
+ * Reclaimed shards are parsed again from the raw contents of the index, which are read back from its file
+ * once moved there through {@link TranslationShardIndex#moveContentsTo(java.io.File)}
+ *
+ * @author CDAGaming
+ */
+public class ShardedTranslationMap extends AbstractMap<String, String> {
+    /**
+     * The index to parse shards from
+     */
+    private final TranslationShardIndex index;
+    /**
+     * The function used to parse the contents of a shard into translations
+     */
+    private final Function<byte[], Map<String, String>> parser;
+    /**
+     * The Stored Mapping of Parsed Shards
+     * <p>
+     * Format: shardName:translations
+     */
+    private final Map<String, SoftReference<Map<String, String>>> shards = StringUtils.newConcurrentHashMap();
+    /**
+     * The deprecations applied to each shard as it is parsed
+     */
+    private final TranslationDeprecations deprecations;
+
+    /**
+     * Initialize a new sharded map
+     *
+     * <p>
+     * The parser is expected to apply the specified deprecations, so that renamed keys
+     * are stored within the shard of their old key
+     *
+     * @param index        The index to parse shards from
+     * @param parser       The function used to parse the contents of a shard into translations
+     * @param deprecations The deprecations applied by the parser
+     */
+    public ShardedTranslationMap(final TranslationShardIndex index, final Function<byte[], Map<String, String>> parser,
+                                 final TranslationDeprecations deprecations) {
+        this.index = index;
+        this.parser = parser;
+        this.deprecations = deprecations;
+    }
+
+    /**
+     * Retrieve the parsed translations of the specified shard, parsing it if needed
+     *
+     * @param shardName The shard name to interpret
+     * @return the translations within this shard
+     */
+    private Map<String, String> getShard(final String shardName) {
+        final SoftReference<Map<String, String>> reference = shards.get(shardName);
+        Map<String, String> result = reference != null ? reference.get() : null;
+        if (result == null) {
+            final byte[] shardData = index.getShardData(shardName);
+            if (shardData == null) {
+                // Unreadable shards are retried on their next access
+                return Collections.emptyMap();
+            }
+            result = Collections.unmodifiableMap(parser.apply(shardData));
+            shards.put(shardName, new SoftReference<>(result));
+        }
+        return result;
+    }
+
+
+    /**
+     * Determines whether the specified shard has been parsed, and is still resident
+     *
+     * @param shardName The shard name to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isShardLoaded(final String shardName) {
+        final SoftReference<Map<String, String>> reference = shards.get(shardName);
+        return reference != null && reference.get() != null;
+    }
+
+    @Override
+    public String get(final Object key) {
+        if (!(key instanceof String)) return null;
+
+        // Renamed keys are stored within the shard they were parsed from
+        final String sourceKey = deprecations.getSourceKey((String) key);
+        if (sourceKey == null) return null;
+
+        final String shardName = index.getShardName(sourceKey);
+        return index.hasShard(shardName) ? getShard(shardName).get(key) : null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return index.getEntryCount() == 0;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        final Map<String, String> results = StringUtils.newHashMap();
+        for (String shardName : index.getShardNames()) {
+            results.putAll(getShard(shardName));
+        }
+        return Collections.unmodifiableMap(results).entrySet();
+    }
+}
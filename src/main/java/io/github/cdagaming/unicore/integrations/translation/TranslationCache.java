@@ -0,0 +1,345 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.integrations.translation;
+
+import io.github.cdagaming.unicore.UniCore;
+import io.github.cdagaming.unicore.utils.FileUtils;
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+
+/**
+ * Binary on-disk cache for parsed translation data, keyed by a hash of the source data
+ * <p>
+ * Format: header (magic, version, source hash, entry count), a table of (keyOffset, valueOffset) entries,
+ * and a string table of length-prefixed UTF-8 strings, with identical strings stored only once
+ * <p>
+ * Sources that are plain files or jar entries are validated through their size and modification time,
+ * so that a cache hit never reads them. Other sources are read and hashed in full, in which case a cache hit
+ * saves the cost of parsing the source data, rather than the cost of reading it.
+ * Cache files are read fully into memory and closed before being decoded, so that they are never held open
+ * while being replaced
+ *
+ * @author CDAGaming
+ */
+public class TranslationCache {
+    /**
+     * The identifier written to the start of each cache file
+     */
+    private static final int MAGIC = 0x55435443;
+    /**
+     * The current cache format version, incremented on incompatible changes
+     */
+    private static final int VERSION = 2;
+    /**
+     * The size, in bytes, of a single entry within the entry table
+     */
+    private static final int ENTRY_SIZE = 8;
+
+    /**
+     * Read the specified input streams fully into memory, closing them afterwards
+     * <p>
+     * Streams that are missing or unable to be read are skipped
+     *
+     * @param data The {@link InputStream}'s to accept data from
+     * @return the contents of each readable stream, or null if no streams could be read
+     */
+    public static List<byte[]> readContents(final List<InputStream> data) {
+        final List<byte[]> results = StringUtils.newArrayList();
+        for (InputStream in : data) {
+            if (in == null) continue;
+
+            try (InputStream stream = in) {
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[8192];
+                int length;
+                while ((length = stream.read(buffer)) > 0) {
+                    out.write(buffer, 0, length);
+                }
+                results.add(out.toByteArray());
+            } catch (IOException ex) {
+                UniCore.LOG.error("An exception has occurred while reading Translation Mappings, skipping this source...");
+                UniCore.LOG.debugError(ex);
+            }
+        }
+        return results.isEmpty() ? null : results;
+    }
+
+    /**
+     * Close the specified input streams without reading them
+     *
+     * @param data The {@link InputStream}'s to close
+     */
+    public static void closeAll(final List<InputStream> data) {
+        for (InputStream in : data) {
+            if (in == null) continue;
+
+            try {
+                in.close();
+            } catch (IOException ex) {
+                UniCore.LOG.debugError(ex);
+            }
+        }
+    }
+
+    /**
+     * Compute the source hash for the specified source locations, from their metadata alone
+     * <p>
+     * Plain files contribute their size and modification time, and jar entries contribute their own size
+     * and modification time alongside those of the jar containing them
+     *
+     * @param sources The locations of the source data
+     * @param extras  Additional parsing options that affect the resulting data
+     * @return the resulting source hash, or null if any source does not provide this metadata
+     */
+    public static byte[] getSourceHash(final List<URL> sources, final String... extras) {
+        try {
+            final MessageDigest digest = createDigest(extras);
+            final ByteBuffer buffer = ByteBuffer.allocate(16);
+            for (URL source : sources) {
+                digest.update(source.toString().getBytes(StandardCharsets.UTF_8));
+                if (!putFileMetadata(digest, buffer, source)) {
+                    final URLConnection connection = source.openConnection();
+                    if (!(connection instanceof JarURLConnection)) {
+                        return null;
+                    }
+                    final JarURLConnection jarConnection = (JarURLConnection) connection;
+                    final JarEntry entry = jarConnection.getJarEntry();
+                    if (entry == null || entry.getSize() < 0 || entry.getTime() <= 0 ||
+                            !putFileMetadata(digest, buffer, jarConnection.getJarFileURL())) {
+                        return null;
+                    }
+                    buffer.clear();
+                    digest.update(buffer.putLong(entry.getSize()).putLong(entry.getTime()).array());
+                }
+            }
+            return digest.digest();
+        } catch (Exception ex) {
+            UniCore.LOG.debugError(ex);
+            return null;
+        }
+    }
+
+    /**
+     * Add the size and modification time of the specified location to a digest, if it is a plain file
+     *
+     * @param digest The digest to update
+     * @param buffer The buffer to encode metadata with
+     * @param source The location to interpret
+     * @return {@link Boolean#TRUE} if the location was a readable plain file
+     * @throws Exception If the location is unable to be converted to a file
+     */
+    private static boolean putFileMetadata(final MessageDigest digest, final ByteBuffer buffer, final URL source) throws Exception {
+        if (!"file".equals(source.getProtocol())) return false;
+
+        final File file = new File(source.toURI());
+        final long modified = file.lastModified();
+        if (!file.isFile() || modified <= 0) return false;
+
+        buffer.clear();
+        digest.update(buffer.putLong(file.length()).putLong(modified).array());
+        return true;
+    }
+
+    /**
+     * Create a new digest, initialized with the specified parsing options
+     *
+     * @param extras Additional parsing options that affect the resulting data
+     * @return the resulting digest
+     * @throws Exception If the digest algorithm is unavailable
+     */
+    private static MessageDigest createDigest(final String... extras) throws Exception {
+        final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        for (String extra : extras) {
+            digest.update(extra.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return digest;
+    }
+
+    /**
+     * Compute the content hash for the specified source data
+     *
+     * @param contents The source data to interpret
+     * @param extras   Additional parsing options that affect the resulting data
+     * @return the resulting content hash
+     */
+    public static byte[] getContentHash(final List<byte[]> contents, final String... extras) {
+        try {
+            final MessageDigest digest = createDigest(extras);
+            for (byte[] content : contents) {
+                digest.update(ByteBuffer.allocate(4).putInt(content.length).array());
+                digest.update(content);
+            }
+            return digest.digest();
+        } catch (Exception ex) {
+            throw new IllegalStateException("Unable to compute translation content hash", ex);
+        }
+    }
+
+    /**
+     * Read cached translations from the specified file, if present and matching the specified source hash
+     * <p>
+     * Each distinct string is decoded once, so that identical values share a single instance
+     *
+     * @param file       The cache file to interpret
+     * @param sourceHash The expected source hash
+     * @return the cached translations, or null if not present or out of date
+     */
+    public static Map<String, String> read(final File file, final byte[] sourceHash) {
+        if (!file.isFile()) return null;
+
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            final byte[] storedHash = new byte[buffer.get() & 0xFF];
+            buffer.get(storedHash);
+            if (!Arrays.equals(storedHash, sourceHash)) {
+                return null;
+            }
+
+            final int count = buffer.getInt();
+            final int entryStart = buffer.position();
+            final int stringStart = entryStart + (count * ENTRY_SIZE);
+            final Map<Integer, String> strings = StringUtils.newHashMap();
+            final Map<String, String> results = new HashMap<>((int) (count / 0.75f) + 1);
+            for (int i = 0; i < count; i++) {
+                final int entry = entryStart + (i * ENTRY_SIZE);
+                results.put(
+                        readString(buffer, stringStart + buffer.getInt(entry), strings),
+                        readString(buffer, stringStart + buffer.getInt(entry + 4), strings)
+                );
+            }
+            return results;
+        } catch (Exception ex) {
+            UniCore.LOG.debugError("Unable to read translation cache @ " + file.getAbsolutePath());
+            UniCore.LOG.debugError(ex);
+            return null;
+        }
+    }
+
+    /**
+     * Write the specified translations to the specified cache file
+     *
+     * @param file         The cache file to write to
+     * @param sourceHash   The source hash of the source data
+     * @param translations The translations to store
+     */
+    public static void write(final File file, final byte[] sourceHash, final Map<String, String> translations) {
+        final int count = translations.size();
+        final int[] keyOffsets = new int[count];
+        final int[] valueOffsets = new int[count];
+        final Map<String, Integer> stringOffsets = StringUtils.newHashMap();
+        final ByteArrayOutputStream strings = new ByteArrayOutputStream();
+
+        int position = 0;
+        for (Map.Entry<String, String> entry : translations.entrySet()) {
+            keyOffsets[position] = writeString(entry.getKey(), strings, stringOffsets);
+            valueOffsets[position] = writeString(entry.getValue(), strings, stringOffsets);
+            position++;
+        }
+
+        final byte[] stringData = strings.toByteArray();
+        final ByteBuffer buffer = ByteBuffer.allocate(13 + sourceHash.length + (count * ENTRY_SIZE) + stringData.length);
+        buffer.putInt(MAGIC).putInt(VERSION);
+        buffer.put((byte) sourceHash.length).put(sourceHash);
+        buffer.putInt(count);
+        for (int i = 0; i < count; i++) {
+            buffer.putInt(keyOffsets[i]).putInt(valueOffsets[i]);
+        }
+        buffer.put(stringData);
+
+        try {
+            final File tempFile = new File(file.getParentFile(), file.getName() + ".tmp");
+            FileUtils.assertFileExists(tempFile);
+            Files.write(tempFile.toPath(), buffer.array());
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (Exception ex) {
+            UniCore.LOG.debugError("Unable to write translation cache @ " + file.getAbsolutePath());
+            UniCore.LOG.debugError(ex);
+        }
+    }
+
+    /**
+     * Read a length-prefixed UTF-8 string from the specified buffer, reusing it if already decoded
+     *
+     * @param buffer   The buffer to interpret
+     * @param position The absolute position of the string
+     * @param decoded  The previously decoded strings, by position
+     * @return the resulting string
+     */
+    private static String readString(final ByteBuffer buffer, final int position, final Map<Integer, String> decoded) {
+        final String existing = decoded.get(position);
+        if (existing != null) {
+            return existing;
+        }
+        final int length = buffer.getInt(position);
+        final String result = new String(buffer.array(), position + 4, length, StandardCharsets.UTF_8);
+        decoded.put(position, result);
+        return result;
+    }
+
+    /**
+     * Write a length-prefixed UTF-8 string to the string table, reusing an existing entry if present
+     *
+     * @param value   The string to write
+     * @param out     The string table to write to
+     * @param offsets The offsets of previously written strings
+     * @return the offset of the string within the string table
+     */
+    private static int writeString(final String value, final ByteArrayOutputStream out, final Map<String, Integer> offsets) {
+        final Integer existing = offsets.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        final int offset = out.size();
+        final byte[] data = value.getBytes(StandardCharsets.UTF_8);
+        out.write(data.length >>> 24);
+        out.write(data.length >>> 16);
+        out.write(data.length >>> 8);
+        out.write(data.length);
+        out.write(data, 0, data.length);
+        offsets.put(value, offset);
+        return offset;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.integrations.translation;
+
+import io.github.cdagaming.unicore.UniCore;
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * A compiled index of deprecated translation keys, applied to translations as they are parsed
+ * <p>
+ * Removed keys are never stored, and renamed keys are stored directly under their new name.
+ * As a renamed key always takes its value from its old key, values stored under the new key itself are ignored,
+ * leaving the new key absent if the old key is not present
+ *
+ * @author CDAGaming
+ */
+public class TranslationDeprecations {
+    /**
+     * An index containing no deprecations
+     */
+    public static final TranslationDeprecations EMPTY = new TranslationDeprecations(Collections.emptyList(), Collections.emptyMap());
+    /**
+     * The Stored Mapping of Renamed Keys
+     * <p>
+     * Format: oldKey:newKey
+     */
+    private final Map<String, String> renamed = StringUtils.newHashMap();
+    /**
+     * The Stored Mapping of Renamed Keys, by their new key
+     * <p>
+     * Format: newKey:oldKey
+     */
+    private final Map<String, String> renamedFrom = StringUtils.newHashMap();
+    /**
+     * The translation keys whose values are never stored
+     */
+    private final Set<String> dropped = StringUtils.newHashSet();
+    /**
+     * The old keys of renames which have already been reported as missing
+     */
+    private final Set<String> reportedKeys = Collections.newSetFromMap(StringUtils.newConcurrentHashMap());
+    /**
+     * A digest of the compiled deprecations, used to detect changes to them
+     */
+    private final String fingerprint;
+
+    /**
+     * Initialize a new index, compiled from the specified deprecations
+     *
+     * @param removed The translation keys to treat as removed
+     * @param renamed The translation keys to treat as renamed, mapping old keys to new keys
+     */
+    public TranslationDeprecations(final Collection<String> removed, final Map<String, String> renamed) {
+        dropped.addAll(removed);
+        for (Map.Entry<String, String> entry : renamed.entrySet()) {
+            // A removed key has no value to carry over, so its new key is always absent
+            if (!dropped.contains(entry.getKey())) {
+                this.renamed.put(entry.getKey(), entry.getValue());
+                renamedFrom.put(entry.getValue(), entry.getKey());
+            }
+            dropped.add(entry.getValue());
+        }
+        fingerprint = computeFingerprint();
+    }
+
+    /**
+     * Determines whether this index contains no deprecations
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isEmpty() {
+        return dropped.isEmpty();
+    }
+
+    /**
+     * Retrieve the key that a parsed translation should be stored under
+     *
+     * @param key The parsed translation key
+     * @return the key to store the translation under, or null if it should not be stored
+     */
+    public String getStoredKey(final String key) {
+        if (isEmpty()) return key;
+
+        final String newKey = renamed.get(key);
+        if (newKey != null) {
+            return newKey;
+        }
+        return dropped.contains(key) ? null : key;
+    }
+
+    /**
+     * Retrieve the key that the specified translation was parsed from
+     *
+     * @param key The translation key to interpret
+     * @return the key the translation was parsed from, or null if it can never be present
+     */
+    public String getSourceKey(final String key) {
+        if (isEmpty()) return key;
+
+        final String oldKey = renamedFrom.get(key);
+        if (oldKey != null) {
+            return oldKey;
+        }
+        return dropped.contains(key) || renamed.containsKey(key) ? null : key;
+    }
+
+    /**
+     * Store the specified parsed translation, applying any deprecations to it
+     *
+     * @param translations The map to store the translation in
+     * @param key          The parsed translation key
+     * @param value        The parsed translation value
+     */
+    public void put(final Map<String, String> translations, final String key, final String value) {
+        final String storedKey = getStoredKey(key);
+        if (storedKey != null) {
+            translations.put(storedKey, value);
+        }
+    }
+
+    /**
+     * Apply these deprecations to a map of translations that was parsed without them
+     *
+     * @param translations The translations map to process
+     */
+    public void apply(final Map<String, String> translations) {
+        if (isEmpty()) return;
+
+        final Map<String, String> renamedValues = StringUtils.newHashMap();
+        for (Map.Entry<String, String> entry : renamed.entrySet()) {
+            final String oldValue = translations.get(entry.getKey());
+            if (oldValue != null) {
+                renamedValues.put(entry.getValue(), oldValue);
+            }
+        }
+        translations.keySet().removeAll(dropped);
+        translations.keySet().removeAll(renamed.keySet());
+        translations.putAll(renamedValues);
+    }
+
+    /**
+     * Report any renames whose old key was not present in the specified translations
+     * <p>
+     * Each missing key is only reported once for this index
+     *
+     * @param translations The translations to interpret, with deprecations already applied
+     */
+    public void reportMissingKeys(final Map<String, String> translations) {
+        for (Map.Entry<String, String> entry : renamed.entrySet()) {
+            if (!translations.containsKey(entry.getValue()) && reportedKeys.add(entry.getKey())) {
+                UniCore.LOG.warn("Missing translation key for rename: " + entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Retrieve a fingerprint of these deprecations, used to detect changes to them
+     *
+     * @return the resulting fingerprint
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Compute a digest of these deprecations, with each rule contributing in sorted order
+     *
+     * @return the resulting fingerprint
+     */
+    private String computeFingerprint() {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(ByteBuffer.allocate(4).putInt(renamed.size()).array());
+            for (Map.Entry<String, String> entry : new TreeMap<>(renamed).entrySet()) {
+                digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            digest.update(ByteBuffer.allocate(4).putInt(dropped.size()).array());
+            for (String key : new TreeSet<>(dropped)) {
+                digest.update(key.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+
+            final StringBuilder result = new StringBuilder();
+            for (byte b : digest.digest()) {
+                result.append(String.format("%02x", b));
+            }
+            return result.toString();
+        } catch (Exception ex) {
+            throw new IllegalStateException("Unable to compute translation deprecation fingerprint", ex);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.integrations.translation;
+
+/**
+ * A handle to an interned translation key, allowing translations to be retrieved by index
+ * <p>
+ * Handles are created through a {@link TranslationKeyRegistry}, and remain valid across language changes and reloads
+ *
+ * @author CDAGaming
+ */
+public class TranslationKey {
+    /**
+     * The dense index assigned to this key
+     */
+    private final int id;
+    /**
+     * The raw translation key this handle represents
+     */
+    private final String key;
+
+    /**
+     * Initialize a new handle, with the specified arguments
+     *
+     * @param id  The dense index assigned to this key
+     * @param key The raw translation key this handle represents
+     */
+    TranslationKey(final int id, final String key) {
+        this.id = id;
+        this.key = key;
+    }
+
+    /**
+     * Retrieve the dense index assigned to this key
+     *
+     * @return the index for this key
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Retrieve the raw translation key this handle represents
+     *
+     * @return the raw translation key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
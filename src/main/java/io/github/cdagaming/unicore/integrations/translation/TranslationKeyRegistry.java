@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.integrations.translation;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns translation keys into {@link TranslationKey} handles with dense, sequential indexes
+ * <p>
+ * Entries are never removed, as tables index their translations by handle; growth is bounded
+ * by the amount of distinct keys across all loaded Language Files
+ *
+ * @author CDAGaming
+ */
+public class TranslationKeyRegistry {
+    /**
+     * The process-wide registry, shared by all languages and {@link io.github.cdagaming.unicore.utils.TranslationUtils} instances
+     */
+    public static final TranslationKeyRegistry SHARED = new TranslationKeyRegistry();
+    /**
+     * The Stored Mapping of Interned Keys
+     * <p>
+     * Format: translationKey:keyHandle
+     */
+    private final Map<String, TranslationKey> keys = StringUtils.newConcurrentHashMap();
+    /**
+     * The next index to assign to a newly interned key
+     */
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Retrieve the handle for the specified key, interning it if not already present
+     * <p>
+     * The key string of a handle is shared by every table using this registry
+     *
+     * @param translationKey The raw String to interpret
+     * @return the handle for this key
+     */
+    public TranslationKey intern(final String translationKey) {
+        final TranslationKey existing = keys.get(translationKey);
+        return existing != null ? existing : keys.computeIfAbsent(translationKey, k -> new TranslationKey(nextId.getAndIncrement(), k));
+    }
+
+    /**
+     * Retrieve the handle for the specified key, if it has been interned
+     *
+     * @param translationKey The raw String to interpret
+     * @return the handle for this key, or null if not interned
+     */
+    public TranslationKey get(final String translationKey) {
+        return keys.get(translationKey);
+    }
+
+    /**
+     * Retrieve the amount of indexes assigned by this registry
+     *
+     * @return the amount of assigned indexes
+     */
+    public int size() {
+        return nextId.get();
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.integrations.translation;
+
+import io.github.cdagaming.unicore.UniCore;
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and timings for a single translation instance, readable directly or through JMX
+ * <p>
+ * Counters are striped, so that recording from many threads at once does not contend
+ *
+ * @author CDAGaming
+ */
+public class TranslationMetrics implements TranslationMetricsMXBean {
+    /**
+     * The JMX domain metrics are registered under
+     */
+    private static final String DOMAIN = "io.github.cdagaming.unicore";
+    /**
+     * The name this instance was created for, used when registering through JMX
+     */
+    private final String name;
+    /**
+     * The amount of translation lookups performed
+     */
+    private final LongAdder lookups = new LongAdder();
+    /**
+     * The amount of translation lookups that found no translation
+     */
+    private final LongAdder misses = new LongAdder();
+    /**
+     * The amount of translation lookups answered by the default language
+     */
+    private final LongAdder fallbacks = new LongAdder();
+    /**
+     * The amount of translation lookups that failed while formatting
+     */
+    private final LongAdder formatExceptions = new LongAdder();
+    /**
+     * The amount of bytes parsed from Language Files
+     */
+    private final LongAdder bytesParsed = new LongAdder();
+    /**
+     * The Stored Mapping of Load Times, in nanoseconds
+     * <p>
+     * Format: languageId:loadTime
+     */
+    private final Map<String, Long> loadTimes = StringUtils.newConcurrentHashMap();
+    /**
+     * The name this instance is registered under through JMX, if any
+     */
+    private ObjectName objectName = null;
+
+    /**
+     * Initialize a new metrics instance
+     *
+     * @param name The name for this instance, such as the Mod ID it belongs to
+     */
+    public TranslationMetrics(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Register this instance with the platform MBean server, if not already done
+     * <p>
+     * If another instance is already registered under the same name, a unique suffix is appended
+     */
+    public synchronized void register() {
+        if (objectName != null) return;
+
+        try {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName target = new ObjectName(DOMAIN, getProperties(name));
+            for (int i = 1; server.isRegistered(target); i++) {
+                target = new ObjectName(DOMAIN, getProperties(name + "-" + i));
+            }
+            server.registerMBean(this, target);
+            objectName = target;
+        } catch (Exception ex) {
+            UniCore.LOG.debugError("Unable to register translation metrics for " + name);
+            UniCore.LOG.debugError(ex);
+        }
+    }
+
+    /**
+     * Unregister this instance from the platform MBean server, if currently registered
+     */
+    public synchronized void unregister() {
+        if (objectName == null) return;
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (Exception ex) {
+            UniCore.LOG.debugError(ex);
+        }
+        objectName = null;
+    }
+
+    /**
+     * Retrieve the JMX key properties for the specified name
+     *
+     * @param name The name to interpret
+     * @return the resulting key properties
+     */
+    private static Hashtable<String, String> getProperties(final String name) {
+        final Hashtable<String, String> properties = new Hashtable<>();
+        properties.put("type", "TranslationMetrics");
+        properties.put("name", ObjectName.quote(name));
+        return properties;
+    }
+
+    /**
+     * Retrieve the name this instance is registered under through JMX
+     *
+     * @return the registered name, or null if not registered
+     */
+    public synchronized ObjectName getObjectName() {
+        return objectName;
+    }
+
+    /**
+     * Record a translation lookup
+     */
+    public void recordLookup() {
+        lookups.increment();
+    }
+
+    /**
+     * Record a translation lookup that found no translation
+     */
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    /**
+     * Record a translation lookup answered by the default language
+     */
+    public void recordFallback() {
+        fallbacks.increment();
+    }
+
+    /**
+     * Record a translation lookup that failed while formatting
+     */
+    public void recordFormatException() {
+        formatExceptions.increment();
+    }
+
+    /**
+     * Record the time taken to load the specified language
+     *
+     * @param languageId The language ID to interpret
+     * @param nanos      The time taken, in nanoseconds
+     */
+    public void recordLoad(final String languageId, final long nanos) {
+        loadTimes.put(languageId, nanos);
+    }
+
+    /**
+     * Wrap the specified stream, so that bytes read from it are recorded as parsed
+     *
+     * @param in The {@link InputStream} to interpret
+     * @return the wrapped stream
+     */
+    public InputStream countBytes(final InputStream in) {
+        return new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                final int result = super.read();
+                if (result >= 0) {
+                    bytesParsed.increment();
+                }
+                return result;
+            }
+
+            @Override
+            public int read(final byte[] b, final int off, final int len) throws IOException {
+                final int result = super.read(b, off, len);
+                if (result > 0) {
+                    bytesParsed.add(result);
+                }
+                return result;
+            }
+        };
+    }
+
+    @Override
+    public long getLookupCount() {
+        return lookups.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getFallbackCount() {
+        return fallbacks.sum();
+    }
+
+    @Override
+    public long getFormatExceptionCount() {
+        return formatExceptions.sum();
+    }
+
+    @Override
+    public long getBytesParsed() {
+        return bytesParsed.sum();
+    }
+
+    @Override
+    public Map<String, Long> getLoadTimes() {
+        return Collections.unmodifiableMap(StringUtils.newHashMap(loadTimes));
+    }
+
+    @Override
+    public void reset() {
+        lookups.reset();
+        misses.reset();
+        fallbacks.reset();
+        formatExceptions.reset();
+        bytesParsed.reset();
+        loadTimes.clear();
+    }
+}
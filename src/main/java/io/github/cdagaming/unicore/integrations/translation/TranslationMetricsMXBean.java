@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.integrations.translation;
+
+import java.util.Map;
+
+/**
+ * The management interface for {@link TranslationMetrics}, as exposed through JMX
+ *
+ * @author CDAGaming
+ */
+public interface TranslationMetricsMXBean {
+    /**
+     * Retrieve the amount of translation lookups performed
+     *
+     * @return the lookup count
+     */
+    long getLookupCount();
+
+    /**
+     * Retrieve the amount of translation lookups that found no translation
+     *
+     * @return the miss count
+     */
+    long getMissCount();
+
+    /**
+     * Retrieve the amount of translation lookups answered by the default language, instead of the requested one
+     *
+     * @return the fallback count
+     */
+    long getFallbackCount();
+
+    /**
+     * Retrieve the amount of translation lookups that failed while formatting
+     *
+     * @return the format exception count
+     */
+    long getFormatExceptionCount();
+
+    /**
+     * Retrieve the amount of bytes parsed from Language Files
+     *
+     * @return the amount of bytes parsed
+     */
+    long getBytesParsed();
+
+    /**
+     * Retrieve the most recent load time, in nanoseconds, for each loaded language
+     *
+     * @return the load times, by language ID
+     */
+    Map<String, Long> getLoadTimes();
+
+    /**
+     * Reset all counters and timings to zero
+     */
+    void reset();
+}
@@ -0,0 +1,284 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.integrations.translation;
+
+import io.github.cdagaming.unicore.UniCore;
+import io.github.cdagaming.unicore.utils.FileUtils;
+import io.github.cdagaming.unicore.utils.StringUtils;
+import io.github.cdagaming.unicore.utils.TranslationUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * A process-wide coordinator for switching the language of {@link TranslationUtils} instances in one pass
+ * <p>
+ * Registered instances share a single loading thread and a single language-change check,
+ * so that only {@link TranslationRegistry#onTick()} needs to be called, rather than each instance's own tick event.
+ * When the language changes, every registered namespace is loaded for it in one pass before any instance switches.
+ * Each instance still owns its own tables and deprecations; only translation keys are shared between them,
+ * through {@link TranslationKeyRegistry#SHARED}
+ *
+ * @author CDAGaming
+ */
+public class TranslationRegistry {
+    /**
+     * The name of the shared loading thread
+     */
+    private static final String THREAD_NAME = "UniCore-Translations";
+    /**
+     * The process-wide registry instance
+     */
+    private static final TranslationRegistry INSTANCE = new TranslationRegistry();
+    /**
+     * The registered translation instances
+     */
+    private final List<TranslationUtils> instances = new CopyOnWriteArrayList<>();
+    /**
+     * The default language ID, used when no language is supplied
+     */
+    private volatile String defaultLanguageId = "en_us";
+    /**
+     * The language ID all registered instances are currently using, or null if no language has been switched to yet
+     */
+    private volatile String languageId = null;
+    /**
+     * The language ID currently being loaded for all registered instances, if any
+     */
+    private volatile String pendingLanguageId = null;
+    /**
+     * The function used to retrieve the current language, when not using language notifications
+     */
+    private volatile Function<String, String> languageSupplier = (fallback) -> fallback;
+    /**
+     * The language ID most recently pushed through {@link TranslationRegistry#notifyLanguageChanged(String)}, if any
+     */
+    private volatile String notifiedLanguageId = null;
+    /**
+     * Whether to load languages on the shared loading thread, rather than during {@link TranslationRegistry#onTick()}
+     */
+    private volatile boolean asyncLoading = true;
+
+    /**
+     * Retrieve the process-wide registry instance
+     *
+     * @return the registry instance
+     */
+    public static TranslationRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Retrieve the executor used by the shared loading thread
+     *
+     * @return the shared loading executor
+     */
+    public Executor getLoadingExecutor() {
+        return FileUtils.getThreadPool(THREAD_NAME);
+    }
+
+    /**
+     * Register the specified instance with this registry
+     * <p>
+     * The instance's asynchronous loads use the shared loading thread, and it is switched to language notifications
+     * for the registry's current language, or once the registry first switches language if it has not yet done so.
+     * Its own tick event should no longer be called, as {@link TranslationRegistry#onTick()} does so
+     *
+     * @param instance The instance to register
+     * @return the registered instance, used for chain-building
+     */
+    public TranslationUtils register(final TranslationUtils instance) {
+        if (!instances.contains(instance)) {
+            instance.setLoadingExecutor(getLoadingExecutor());
+            final String currentLanguageId = languageId;
+            if (currentLanguageId != null) {
+                instance.notifyLanguageChanged(currentLanguageId);
+            }
+            instances.add(instance);
+        }
+        return instance;
+    }
+
+    /**
+     * Unregister the specified instance from this registry
+     *
+     * @param instance The instance to unregister
+     */
+    public void unregister(final TranslationUtils instance) {
+        instances.remove(instance);
+    }
+
+    /**
+     * Retrieve the registered translation instances
+     *
+     * @return the registered instances
+     */
+    public List<TranslationUtils> getInstances() {
+        return StringUtils.newArrayList(instances);
+    }
+
+    /**
+     * Retrieve the language ID all registered instances are currently using
+     *
+     * @return the current language ID
+     */
+    public String getLanguage() {
+        final String currentLanguageId = languageId;
+        return currentLanguageId != null ? currentLanguageId : defaultLanguageId;
+    }
+
+    /**
+     * Sets the default language ID, used when no language is supplied
+     *
+     * @param defaultLanguageId the new default language ID
+     * @return the current instance, used for chain-building
+     */
+    public TranslationRegistry setDefaultLanguage(final String defaultLanguageId) {
+        this.defaultLanguageId = StringUtils.getOrDefault(defaultLanguageId, this.defaultLanguageId);
+        return this;
+    }
+
+    /**
+     * Sets the function used to retrieve the current language, polled once per tick for all instances
+     *
+     * @param languageSupplier the new language-supplying function
+     * @return the current instance, used for chain-building
+     */
+    public TranslationRegistry setLanguageSupplier(final Function<String, String> languageSupplier) {
+        this.languageSupplier = languageSupplier;
+        return this;
+    }
+
+    /**
+     * Sets whether to load languages on the shared loading thread, rather than during {@link TranslationRegistry#onTick()}
+     *
+     * @param asyncLoading the new "asyncLoading" state
+     * @return the current instance, used for chain-building
+     */
+    public TranslationRegistry setAsyncLoading(final boolean asyncLoading) {
+        this.asyncLoading = asyncLoading;
+        return this;
+    }
+
+    /**
+     * Notify this registry that the current language has changed
+     * <p>
+     * Once called, the language supplier is no longer polled, until this is called with a null language ID
+     *
+     * @param languageId the new language ID, or null to resume polling the language supplier
+     */
+    public void notifyLanguageChanged(final String languageId) {
+        notifiedLanguageId = languageId;
+    }
+
+    /**
+     * The Event to Run on each Client Tick, in place of each registered instance's own tick event
+     * <p>
+     * Checks for a language change once for all instances, then ticks each instance,
+     * which returns immediately unless it has a pending sync or language change
+     */
+    public void onTick() {
+        final String notified = notifiedLanguageId;
+        final String currentLanguageId = notified != null ? notified : languageSupplier.apply(defaultLanguageId);
+        if (!currentLanguageId.equals(languageId) && !currentLanguageId.equals(pendingLanguageId)) {
+            switchLanguage(currentLanguageId);
+        }
+        for (TranslationUtils instance : instances) {
+            instance.onTick();
+        }
+    }
+
+    /**
+     * Load the specified language for all registered instances in one pass, then switch each of them to it
+     * <p>
+     * If any load or sync listener fails, the failure is logged and the switch still takes place,
+     * with each instance falling back to its default language if its own translations could not be loaded
+     *
+     * @param languageId the language ID to interpret
+     */
+    private void switchLanguage(final String languageId) {
+        pendingLanguageId = languageId;
+        final CompletableFuture<Void> task = preloadAll(asyncLoading ? getLoadingExecutor() : Runnable::run, languageId).handle((result, error) -> {
+            if (!languageId.equals(pendingLanguageId)) return null;
+            try {
+                if (error != null) {
+                    UniCore.LOG.error("An exception has occurred while loading \"" + languageId + "\" for registered translation instances...");
+                    UniCore.LOG.debugError(error);
+                }
+                for (TranslationUtils instance : instances) {
+                    // Switch first, so that the notification finds nothing left to load
+                    instance.switchLanguage(languageId);
+                    instance.notifyLanguageChanged(languageId);
+                }
+                this.languageId = languageId;
+            } finally {
+                pendingLanguageId = null;
+            }
+            return null;
+        });
+        if (!asyncLoading) {
+            task.join();
+        }
+    }
+
+    /**
+     * Load the translation mappings for the specified language IDs in all registered instances, in one pass
+     *
+     * @param languageIds the language IDs to interpret
+     * @return a future completing once all instances have published their translations
+     */
+    public CompletableFuture<Void> preloadLanguages(final String... languageIds) {
+        return preloadAll(getLoadingExecutor(), languageIds);
+    }
+
+    /**
+     * Load and publish the translation mappings for the specified language IDs in all registered instances
+     * <p>
+     * The loads of every instance are submitted together, rather than waiting on each instance in turn
+     *
+     * @param executor    the executor to load language files on
+     * @param languageIds the language IDs to interpret
+     * @return a future completing once all instances have published their translations
+     */
+    private CompletableFuture<Void> preloadAll(final Executor executor, final String... languageIds) {
+        final List<CompletableFuture<Void>> tasks = StringUtils.newArrayList();
+        for (TranslationUtils instance : instances) {
+            tasks.add(instance.preloadLanguages(executor, languageIds));
+        }
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Synchronize the translation mappings for all language ids, in all registered instances
+     */
+    public void syncTranslations() {
+        for (TranslationUtils instance : instances) {
+            instance.syncTranslations();
+        }
+    }
+}
@@ -0,0 +1,626 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.integrations.translation;
+
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import io.github.cdagaming.unicore.UniCore;
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of Language File contents, grouping the byte ranges of each entry into shards by key prefix
+ * <p>
+ * A key's shard is formed from up to the first {@code depth} segments of the key, excluding its final segment,
+ * so that {@code gui.config.title} falls into the {@code gui.config} shard at a depth of 2.
+ * Building the index only locates entries from the raw bytes, leaving keys and values to be decoded once their shard
+ * is first requested. The raw contents are retained in memory until moved to a file through
+ * {@link TranslationShardIndex#moveContentsTo(File)}, after which shards are read back from that file
+ *
+ * @author CDAGaming
+ */
+public class TranslationShardIndex {
+    /**
+     * The structural characters that must encode as plain ASCII for the contents to be indexed
+     */
+    private static final String PROBE = "{}[]\":,=#.\\ \t\r\n";
+    /**
+     * The amount of key segments used to form shard names
+     */
+    private final int depth;
+    /**
+     * Whether the indexed contents are .Json Language Files, rather than .Lang Language Files
+     */
+    private final boolean usingJson;
+    /**
+     * The raw contents of each indexed Language File, in the order they were supplied, or null once moved to a file
+     */
+    private List<byte[]> contents;
+    /**
+     * The file holding the raw contents of each indexed Language File, or null if retained in memory
+     */
+    private File contentsFile;
+    /**
+     * The offset of each indexed Language File within {@link TranslationShardIndex#contentsFile}
+     */
+    private long[] contentsOffsets;
+    /**
+     * The Stored Mapping of Shard Ranges
+     * <p>
+     * Format: shardName:ranges, where ranges holds the source index, start and end offset of each range in sequence
+     */
+    private final Map<String, RangeList> shards = StringUtils.newHashMap();
+    /**
+     * The amount of entries found while indexing
+     */
+    private int entryCount = 0;
+    /**
+     * The ranges of the most recently used shard, reused while consecutive keys share its name
+     */
+    private RangeList lastShard;
+    /**
+     * The raw name of the most recently used shard
+     */
+    private byte[] lastShardName;
+
+    /**
+     * Initialize a new, empty index
+     *
+     * @param contents  The raw contents of each Language File
+     * @param usingJson Whether the contents are .Json Language Files
+     * @param depth     The amount of key segments used to form shard names
+     */
+    private TranslationShardIndex(final List<byte[]> contents, final boolean usingJson, final int depth) {
+        this.contents = contents;
+        this.usingJson = usingJson;
+        this.depth = depth;
+    }
+
+    /**
+     * Build an index for the specified Language File contents
+     *
+     * @param contents  The raw contents of each Language File
+     * @param charset   The Charset Encoding of the contents
+     * @param usingJson Whether the contents are .Json Language Files
+     * @param depth     The amount of key segments used to form shard names
+     * @return the resulting index, or null if the contents are unable to be indexed
+     */
+    public static TranslationShardIndex build(final List<byte[]> contents, final Charset charset, final boolean usingJson, final int depth) {
+        // Byte-level scanning relies on structural characters being single ASCII bytes
+        if (!Arrays.equals(PROBE.getBytes(charset), PROBE.getBytes(StandardCharsets.US_ASCII))) {
+            return null;
+        }
+        final TranslationShardIndex index = new TranslationShardIndex(contents, usingJson, depth);
+        for (int source = 0; source < contents.size(); source++) {
+            final boolean success = usingJson ?
+                    index.indexJson(source, charset) :
+                    index.indexLang(source, charset);
+            if (!success) {
+                return null;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Retrieve the shard name for the specified key
+     *
+     * @param key   The raw String to interpret
+     * @param depth The amount of key segments used to form shard names
+     * @return the shard name for this key
+     */
+    public static String getShardName(final String key, final int depth) {
+        int end = -1;
+        for (int i = 0; i < depth; i++) {
+            final int next = key.indexOf('.', end + 1);
+            if (next < 0) break;
+            end = next;
+        }
+        return end < 0 ? "" : key.substring(0, end);
+    }
+
+    /**
+     * Retrieve the shard name for the specified key, within this index
+     *
+     * @param key The raw String to interpret
+     * @return the shard name for this key
+     */
+    public String getShardName(final String key) {
+        return getShardName(key, depth);
+    }
+
+    /**
+     * Retrieve the names of all shards within this index
+     *
+     * @return the shard names
+     */
+    public Set<String> getShardNames() {
+        return Collections.unmodifiableSet(shards.keySet());
+    }
+
+    /**
+     * Determines whether the specified shard exists within this index
+     *
+     * @param shardName The shard name to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean hasShard(final String shardName) {
+        return shards.containsKey(shardName);
+    }
+
+    /**
+     * Retrieve the amount of entries found while indexing, including any later overridden
+     *
+     * @return the amount of indexed entries
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Move the raw contents of this index to the specified file, so that they are no longer retained in memory
+     * <p>
+     * Shards are read back from the file once requested, so it should remain present for as long as this index is in use
+     *
+     * @param file The file to write the raw contents to
+     * @return whether the contents were able to be moved
+     */
+    public boolean moveContentsTo(final File file) {
+        if (contents == null) return false;
+
+        final long[] offsets = new long[contents.size()];
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file.toPath()))) {
+            long offset = 0;
+            for (int i = 0; i < offsets.length; i++) {
+                final byte[] content = contents.get(i);
+                offsets[i] = offset;
+                out.write(content);
+                offset += content.length;
+            }
+        } catch (Exception ex) {
+            UniCore.LOG.debugError("Unable to store translation contents @ " + file.getAbsolutePath());
+            UniCore.LOG.debugError(ex);
+            return false;
+        }
+        contentsFile = file;
+        contentsOffsets = offsets;
+        contents = null;
+        return true;
+    }
+
+    /**
+     * Retrieve the raw contents of the specified shard, as a standalone Language File
+     *
+     * @param shardName The shard name to interpret
+     * @return the shard contents, or null if not present or unable to be read
+     */
+    public byte[] getShardData(final String shardName) {
+        final RangeList ranges = shards.get(shardName);
+        if (ranges == null) return null;
+
+        int length = usingJson ? 2 : 0;
+        for (int i = 0; i < ranges.size; i += 3) {
+            length += ranges.data[i + 2] - ranges.data[i + 1] + (i > 0 ? 1 : 0);
+        }
+        final byte[] result = new byte[length];
+        int position = 0;
+        if (usingJson) {
+            result[position++] = '{';
+            result[length - 1] = '}';
+        }
+        final List<byte[]> source = contents;
+        try (FileChannel channel = source == null ? FileChannel.open(contentsFile.toPath(), StandardOpenOption.READ) : null) {
+            for (int i = 0; i < ranges.size; i += 3) {
+                if (i > 0) {
+                    result[position++] = (byte) (usingJson ? ',' : '\n');
+                }
+                final int start = ranges.data[i + 1];
+                final int rangeLength = ranges.data[i + 2] - start;
+                if (channel != null) {
+                    readFully(channel, contentsOffsets[ranges.data[i]] + start, ByteBuffer.wrap(result, position, rangeLength));
+                } else {
+                    System.arraycopy(source.get(ranges.data[i]), start, result, position, rangeLength);
+                }
+                position += rangeLength;
+            }
+        } catch (Exception ex) {
+            UniCore.LOG.debugError("Unable to read translation contents for shard \"" + shardName + "\"");
+            UniCore.LOG.debugError(ex);
+            return null;
+        }
+        return result;
+    }
+
+    /**
+     * Read from the specified channel until the specified buffer is full
+     *
+     * @param channel  The channel to read from
+     * @param position The file offset to start reading from
+     * @param buffer   The buffer to fill
+     * @throws IOException if unable to read the data, or if the end of the file is reached first
+     */
+    private static void readFully(final FileChannel channel, long position, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int count = channel.read(buffer, position);
+            if (count < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+            position += count;
+        }
+    }
+
+    /**
+     * Record an entry within the specified source, at the specified byte range
+     *
+     * @param key    The key of the entry
+     * @param source The index of the source containing the entry
+     * @param start  The start offset of the entry
+     * @param end    The end offset of the entry
+     */
+    private void addEntry(final String key, final int source, final int start, final int end) {
+        lastShard = null;
+        lastShardName = null;
+        shards.computeIfAbsent(getShardName(key), k -> new RangeList()).add(contents.get(source), source, start, end);
+        entryCount++;
+    }
+
+    /**
+     * Record an entry within the specified source, at the specified byte range, using its raw key
+     * <p>
+     * Only the shard name of the key is decoded, and only when it differs from that of the previous entry
+     *
+     * @param keyStart The start offset of the raw key
+     * @param keyEnd   The end offset of the raw key
+     * @param charset  The Charset Encoding of the source
+     * @param source   The index of the source containing the entry
+     * @param start    The start offset of the entry
+     * @param end      The end offset of the entry
+     */
+    private void addEntry(final int keyStart, final int keyEnd, final Charset charset, final int source, final int start, final int end) {
+        final byte[] data = contents.get(source);
+        int nameEnd = keyStart;
+        int position = keyStart;
+        for (int i = 0; i < depth; i++) {
+            while (position < keyEnd && data[position] != '.') {
+                position++;
+            }
+            if (position >= keyEnd) break;
+            nameEnd = position++;
+        }
+
+        RangeList ranges = lastShard;
+        if (ranges == null || !regionEquals(data, keyStart, nameEnd, lastShardName)) {
+            ranges = shards.computeIfAbsent(new String(data, keyStart, nameEnd - keyStart, charset), k -> new RangeList());
+            lastShard = ranges;
+            lastShardName = Arrays.copyOfRange(data, keyStart, nameEnd);
+        }
+        ranges.add(data, source, start, end);
+        entryCount++;
+    }
+
+    /**
+     * Determines whether the specified byte range matches the specified bytes
+     *
+     * @param data  The data to interpret
+     * @param start The start offset of the range
+     * @param end   The end offset of the range
+     * @param other The bytes to compare against
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    private static boolean regionEquals(final byte[] data, final int start, final int end, final byte[] other) {
+        if (end - start != other.length) return false;
+        for (int i = 0; i < other.length; i++) {
+            if (data[start + i] != other[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Index the entries of a .Lang Language File
+     *
+     * @param source  The index of the source to interpret
+     * @param charset The Charset Encoding of the source
+     * @return whether the source was able to be indexed
+     */
+    private boolean indexLang(final int source, final Charset charset) {
+        final byte[] data = contents.get(source);
+        int lineStart = 0;
+        while (lineStart < data.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < data.length && data[lineEnd] != '\n' && data[lineEnd] != '\r') {
+                lineEnd++;
+            }
+            // Mirror the trimming of the line reader, without decoding the line
+            int keyStart = lineStart;
+            while (keyStart < lineEnd && isSpace(data[keyStart])) {
+                keyStart++;
+            }
+            if (keyStart < lineEnd && data[keyStart] != '#' && !isSection(data, keyStart, lineEnd)) {
+                int splitIndex = keyStart;
+                while (splitIndex < lineEnd && data[splitIndex] != '=') {
+                    splitIndex++;
+                }
+                if (splitIndex < lineEnd) {
+                    int keyEnd = splitIndex;
+                    while (keyEnd > keyStart && isSpace(data[keyEnd - 1])) {
+                        keyEnd--;
+                    }
+                    addEntry(keyStart, keyEnd, charset, source, lineStart, lineEnd);
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Index the entries of a .Json Language File
+     *
+     * @param source  The index of the source to interpret
+     * @param charset The Charset Encoding of the source
+     * @return whether the source was able to be indexed
+     */
+    private boolean indexJson(final int source, final Charset charset) {
+        final byte[] data = contents.get(source);
+        int position = data.length >= 3 && (data[0] & 0xFF) == 0xEF && (data[1] & 0xFF) == 0xBB && (data[2] & 0xFF) == 0xBF ? 3 : 0;
+        position = skipSeparators(data, position, false);
+        if (position >= data.length || data[position] != '{') {
+            return false;
+        }
+        position++;
+        while (true) {
+            position = skipSeparators(data, position, true);
+            if (position >= data.length) {
+                return false;
+            } else if (data[position] == '}') {
+                return true;
+            } else if (data[position] != '"') {
+                return false;
+            }
+            final int entryStart = position;
+            final int keyEnd = skipString(data, position);
+            if (keyEnd < 0) {
+                return false;
+            }
+            position = skipSeparators(data, keyEnd, false);
+            if (position >= data.length || data[position] != ':') {
+                return false;
+            }
+            final int valueEnd = skipValue(data, skipSeparators(data, position + 1, false));
+            if (valueEnd < 0) {
+                return false;
+            }
+            if (hasEscapes(data, entryStart + 1, keyEnd - 1)) {
+                final String key = decodeKey(data, entryStart, keyEnd, charset);
+                if (key == null) {
+                    return false;
+                }
+                addEntry(key, source, entryStart, valueEnd);
+            } else {
+                addEntry(entryStart + 1, keyEnd - 1, charset, source, entryStart, valueEnd);
+            }
+            position = valueEnd;
+        }
+    }
+
+    /**
+     * Decode the quoted key at the specified byte range
+     *
+     * @param data    The data to interpret
+     * @param start   The offset of the opening quote
+     * @param end     The offset after the closing quote
+     * @param charset The Charset Encoding of the data
+     * @return the decoded key, or null if unable to be decoded
+     */
+    private static String decodeKey(final byte[] data, final int start, final int end, final Charset charset) {
+        final String raw = new String(data, start, end - start, charset);
+        if (raw.indexOf('\\') < 0) {
+            return raw.substring(1, raw.length() - 1);
+        }
+        try {
+            final JsonReader reader = new JsonReader(new StringReader(raw));
+            reader.setStrictness(Strictness.LENIENT);
+            return reader.nextString();
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Skip whitespace, and optionally commas, starting at the specified offset
+     *
+     * @param data          The data to interpret
+     * @param position      The offset to start from
+     * @param includeCommas Whether to also skip commas
+     * @return the offset of the next other character
+     */
+    private static int skipSeparators(final byte[] data, int position, final boolean includeCommas) {
+        while (position < data.length) {
+            final byte b = data[position];
+            if (!isWhitespace(b) && !(includeCommas && b == ',')) break;
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Skip the quoted string starting at the specified offset
+     *
+     * @param data     The data to interpret
+     * @param position The offset of the opening quote
+     * @return the offset after the closing quote, or -1 if the string is not closed
+     */
+    private static int skipString(final byte[] data, int position) {
+        position++;
+        while (position < data.length) {
+            final byte b = data[position];
+            if (b == '\\') {
+                position += 2;
+            } else if (b == '"') {
+                return position + 1;
+            } else {
+                position++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Skip the value starting at the specified offset
+     *
+     * @param data     The data to interpret
+     * @param position The offset of the value
+     * @return the offset after the value, or -1 if the value is malformed
+     */
+    private static int skipValue(final byte[] data, int position) {
+        if (position >= data.length) return -1;
+
+        final byte first = data[position];
+        if (first == '"') {
+            return skipString(data, position);
+        } else if (first == '{' || first == '[') {
+            int nesting = 0;
+            while (position < data.length) {
+                final byte b = data[position];
+                if (b == '"') {
+                    position = skipString(data, position);
+                    if (position < 0) return -1;
+                    continue;
+                } else if (b == '{' || b == '[') {
+                    nesting++;
+                } else if (b == '}' || b == ']') {
+                    if (--nesting == 0) {
+                        return position + 1;
+                    }
+                }
+                position++;
+            }
+            return -1;
+        }
+        final int start = position;
+        while (position < data.length && data[position] != ',' && data[position] != '}' && !isWhitespace(data[position])) {
+            position++;
+        }
+        return position > start ? position : -1;
+    }
+
+    /**
+     * Determines whether the specified byte range contains an escape character
+     *
+     * @param data  The data to interpret
+     * @param start The start offset of the range
+     * @param end   The end offset of the range
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    private static boolean hasEscapes(final byte[] data, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (data[i] == '\\') return true;
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether the specified line starts with a .Lang section marker
+     *
+     * @param data  The data to interpret
+     * @param start The offset of the first non-space character of the line
+     * @param end   The end offset of the line
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    private static boolean isSection(final byte[] data, final int start, final int end) {
+        return end - start >= 4 && data[start] == '[' && data[start + 1] == '{' && data[start + 2] == '}' && data[start + 3] == ']';
+    }
+
+    /**
+     * Determines whether the specified byte is trimmed by {@link String#trim()}
+     *
+     * @param b The byte to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    private static boolean isSpace(final byte b) {
+        return b >= 0 && b <= ' ';
+    }
+
+    /**
+     * Determines whether the specified byte is a whitespace character
+     *
+     * @param b The byte to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    /**
+     * A growable list of byte ranges, merging ranges separated only by whitespace or commas
+     */
+    private static class RangeList {
+        /**
+         * The source index, start and end offset of each range in sequence
+         */
+        private int[] data = new int[12];
+        /**
+         * The amount of values used within {@link RangeList#data}
+         */
+        private int size = 0;
+
+        /**
+         * Add a range to this list, extending the previous range if only separators lie between them
+         *
+         * @param contents The contents of the source containing the range
+         * @param source   The index of the source containing the range
+         * @param start    The start offset of the range
+         * @param end      The end offset of the range
+         */
+        private void add(final byte[] contents, final int source, final int start, final int end) {
+            if (size > 0 && data[size - 3] == source && skipSeparators(contents, data[size - 1], true) == start) {
+                data[size - 1] = end;
+                return;
+            }
+            if (size + 3 > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            data[size++] = source;
+            data[size++] = start;
+            data[size++] = end;
+        }
+    }
+}
@@ -0,0 +1,741 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.integrations.translation;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable snapshot of the translations loaded for a single language
+ * <p>
+ * Tables are never modified once created, allowing them to be shared between threads without locking
+ *
+ * @author CDAGaming
+ */
+public class TranslationTable {
+    /**
+     * The language ID this table was loaded for
+     */
+    private final String languageId;
+    /**
+     * The Stored Mapping of Translations
+     * <p>
+     * Format: translationKey:translatedValue
+     */
+    private final Map<String, String> translations;
+    /**
+     * The packed form of {@link TranslationTable#translations}, if using compact storage
+     */
+    private final PackedTranslationMap packed;
+    /**
+     * The Stored Mapping of Pre-Compiled Templates, for translations containing formatting specifiers
+     * <p>
+     * Format: translationKey:compiledTemplate
+     */
+    private final Map<String, TranslationTemplate> templates;
+    /**
+     * The lowest {@link TranslationKey#getId()} within this table, used as the offset of each indexed array
+     * <p>
+     * As the key registry is shared between instances, indexed arrays only span the ids this table contains
+     */
+    private final int indexBase;
+    /**
+     * The translations within this table, indexed by {@link TranslationKey#getId()} minus {@link TranslationTable#indexBase}
+     */
+    private final String[] indexedTranslations;
+    /**
+     * The Pre-Compiled Templates within this table, indexed by {@link TranslationKey#getId()} minus {@link TranslationTable#indexBase}
+     */
+    private final TranslationTemplate[] indexedTemplates;
+    /**
+     * The entry indexes within {@link TranslationTable#packed}, indexed by {@link TranslationKey#getId()} minus {@link TranslationTable#indexBase}, if using compact storage
+     */
+    private final int[] indexedEntries;
+    /**
+     * Whether {@link TranslationTable#translations} is read on demand, with templates compiled on first use
+     */
+    private final boolean lazy;
+    /**
+     * The fallback table chained into {@link TranslationTable#resolved}, if any
+     */
+    private final TranslationTable fallback;
+    /**
+     * The table whose translations take priority over those of {@link TranslationTable#fallback}, if this is a resolved view
+     */
+    private final TranslationTable primary;
+    /**
+     * The resolved view of this table, reading these translations before those of {@link TranslationTable#fallback}
+     */
+    private final TranslationTable resolved;
+    /**
+     * The translation keys that have been requested from this table, but are not present in it or its fallback
+     * <p>
+     * Consulted before probing either table, so that a repeated miss costs a single lookup.
+     * Tables are replaced whenever translations are published, which discards this set alongside them
+     */
+    private final Set<String> missingKeys = ConcurrentHashMap.newKeySet();
+    /**
+     * The Stored Mapping of Translations with Color Codes removed, populated on first use
+     */
+    private final Map<String, String> colorStripped = StringUtils.newConcurrentHashMap();
+    /**
+     * The Stored Mapping of Translations with Formatting Codes removed, populated on first use
+     */
+    private final Map<String, String> formattingStripped = StringUtils.newConcurrentHashMap();
+    /**
+     * The Stored Mapping of Translations with Color and Formatting Codes removed, populated on first use
+     */
+    private final Map<String, String> allStripped = StringUtils.newConcurrentHashMap();
+    /**
+     * The generation during which this table was last accessed, used to determine eviction order
+     */
+    private volatile long lastAccess;
+
+    /**
+     * Initialize a new snapshot, copying the specified data into a pre-sized map
+     *
+     * @param languageId   The language ID this table was loaded for
+     * @param translations The translations to store
+     * @param templates    The Pre-Compiled Templates for these translations, or null to compile them
+     * @param keys         The registry to intern translation keys into, or null to skip indexing
+     * @param compact      Whether to store translations in a {@link PackedTranslationMap}
+     */
+    private TranslationTable(final String languageId, final Map<String, String> translations, final Map<String, TranslationTemplate> templates, final TranslationKeyRegistry keys, final boolean compact) {
+        this.languageId = languageId;
+        this.fallback = null;
+        this.primary = null;
+        this.resolved = this;
+        this.lazy = false;
+        final Map<String, String> data;
+        if (compact) {
+            this.packed = new PackedTranslationMap(translations, keys);
+            this.translations = data = packed;
+        } else {
+            this.packed = null;
+            data = new HashMap<>(getCapacityFor(translations.size()));
+            if (keys != null) {
+                // Store the interned key strings, so that they are shared between tables
+                for (Map.Entry<String, String> entry : translations.entrySet()) {
+                    data.put(keys.intern(entry.getKey()).getKey(), entry.getValue());
+                }
+            } else {
+                data.putAll(translations);
+            }
+            this.translations = Collections.unmodifiableMap(data);
+        }
+
+        final Map<String, TranslationTemplate> compiled;
+        if (templates != null) {
+            compiled = templates;
+        } else {
+            compiled = new HashMap<>();
+            for (Map.Entry<String, String> entry : data.entrySet()) {
+                if (entry.getValue().indexOf('%') >= 0) {
+                    compiled.put(entry.getKey(), TranslationTemplate.compile(entry.getValue()));
+                }
+            }
+        }
+        this.templates = compiled.isEmpty() ? Collections.emptyMap() : compiled;
+
+        if (keys != null) {
+            final TranslationKey[] handles = new TranslationKey[data.size()];
+            int position = 0, minId = Integer.MAX_VALUE, maxId = -1;
+            for (String key : data.keySet()) {
+                final TranslationKey handle = keys.intern(key);
+                minId = Math.min(minId, handle.getId());
+                maxId = Math.max(maxId, handle.getId());
+                handles[position++] = handle;
+            }
+            this.indexBase = maxId < 0 ? 0 : minId;
+            final int indexSize = maxId < 0 ? 0 : maxId - minId + 1;
+            this.indexedTranslations = packed != null ? new String[0] : new String[indexSize];
+            this.indexedEntries = packed != null ? new int[indexSize] : null;
+            this.indexedTemplates = compiled.isEmpty() ? null : new TranslationTemplate[indexSize];
+            if (indexedEntries != null) {
+                Arrays.fill(indexedEntries, -1);
+            }
+            for (TranslationKey handle : handles) {
+                final int index = handle.getId() - indexBase;
+                if (indexedEntries != null) {
+                    indexedEntries[index] = packed.indexOf(handle.getKey());
+                } else {
+                    indexedTranslations[index] = data.get(handle.getKey());
+                }
+                if (indexedTemplates != null) {
+                    indexedTemplates[index] = compiled.get(handle.getKey());
+                }
+            }
+        } else {
+            this.indexBase = 0;
+            this.indexedTranslations = new String[0];
+            this.indexedEntries = null;
+            this.indexedTemplates = null;
+        }
+    }
+
+    /**
+     * Initialize a new snapshot, sharing the data of an existing table, with the specified fallback table
+     *
+     * @param source   The table to share data with
+     * @param fallback The fallback table to chain into the resolved view, or null if not needed
+     */
+    private TranslationTable(final TranslationTable source, final TranslationTable fallback) {
+        this.languageId = source.languageId;
+        this.translations = source.translations;
+        this.packed = source.packed;
+        this.templates = source.templates;
+        this.indexBase = source.indexBase;
+        this.indexedTranslations = source.indexedTranslations;
+        this.indexedEntries = source.indexedEntries;
+        this.indexedTemplates = source.indexedTemplates;
+        this.fallback = fallback;
+        this.primary = null;
+        this.lazy = false;
+        this.lastAccess = source.lastAccess;
+        this.resolved = fallback == null || fallback.isEmpty() ? this : new TranslationTable(languageId, this, fallback);
+    }
+
+    /**
+     * Initialize a new snapshot, reading from the specified map on demand rather than copying it
+     *
+     * @param languageId   The language ID this table was loaded for
+     * @param translations The translations to read from
+     * @param fallback     The fallback table to chain lookups through in the resolved view, or null if not needed
+     */
+    private TranslationTable(final String languageId, final Map<String, String> translations, final TranslationTable fallback) {
+        this.languageId = languageId;
+        this.translations = translations;
+        this.packed = null;
+        this.templates = StringUtils.newConcurrentHashMap();
+        this.indexBase = 0;
+        this.indexedTranslations = new String[0];
+        this.indexedEntries = null;
+        this.indexedTemplates = null;
+        this.fallback = fallback;
+        this.primary = null;
+        this.lazy = true;
+        this.resolved = fallback == null || fallback.isEmpty() ? this : new TranslationTable(languageId, this, fallback);
+    }
+
+    /**
+     * Initialize a new resolved view, chaining each lookup through the specified tables rather than copying them
+     * <p>
+     * Both tables keep their own storage and key indexes, so a resolved view costs no more than its stripped variants
+     *
+     * @param languageId The language ID this view was resolved for
+     * @param primary    The table to retrieve translations from first
+     * @param fallback   The table to retrieve translations from, if not present in the primary table
+     */
+    private TranslationTable(final String languageId, final TranslationTable primary, final TranslationTable fallback) {
+        this.languageId = languageId;
+        this.translations = new ChainedTranslationMap(primary.translations, fallback.translations);
+        this.packed = null;
+        this.templates = Collections.emptyMap();
+        this.indexBase = 0;
+        this.indexedTranslations = new String[0];
+        this.indexedEntries = null;
+        this.indexedTemplates = null;
+        this.fallback = fallback;
+        this.primary = primary;
+        this.lazy = false;
+        this.resolved = this;
+    }
+
+    /**
+     * Initialize a new snapshot, parsing the specified sharded data on demand rather than copying it
+     *
+     * @param languageId   The language ID this table was loaded for
+     * @param translations The sharded translations to read from
+     */
+    public TranslationTable(final String languageId, final ShardedTranslationMap translations) {
+        this(languageId, translations, (TranslationTable) null);
+    }
+
+    /**
+     * Initialize a new snapshot, copying the specified data into a pre-sized or packed map
+     *
+     * @param languageId   The language ID this table was loaded for
+     * @param translations The translations to store
+     * @param keys         The registry to intern translation keys into, or null to skip indexing
+     * @param compact      Whether to store translations in a {@link PackedTranslationMap}
+     */
+    public TranslationTable(final String languageId, final Map<String, String> translations, final TranslationKeyRegistry keys, final boolean compact) {
+        this(languageId, translations, null, keys, compact);
+    }
+
+    /**
+     * Initialize a new snapshot, copying the specified data into a pre-sized map
+     *
+     * @param languageId   The language ID this table was loaded for
+     * @param translations The translations to store
+     * @param keys         The registry to intern translation keys into, or null to skip indexing
+     */
+    public TranslationTable(final String languageId, final Map<String, String> translations, final TranslationKeyRegistry keys) {
+        this(languageId, translations, keys, false);
+    }
+
+    /**
+     * Initialize a new snapshot, copying the specified data into a pre-sized map
+     *
+     * @param languageId   The language ID this table was loaded for
+     * @param translations The translations to store
+     */
+    public TranslationTable(final String languageId, final Map<String, String> translations) {
+        this(languageId, translations, (TranslationKeyRegistry) null);
+    }
+
+    /**
+     * Initialize a new, empty snapshot
+     *
+     * @param languageId The language ID this table was loaded for
+     */
+    public TranslationTable(final String languageId) {
+        this(languageId, Collections.emptyMap());
+    }
+
+    /**
+     * Retrieve the initial capacity needed to store the specified amount of entries without resizing
+     *
+     * @param size The expected amount of entries
+     * @return the resulting initial capacity
+     */
+    private static int getCapacityFor(final int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    /**
+     * Create a copy of this table, with a resolved view reading these translations before those of the specified table
+     *
+     * @param fallback The fallback table to chain into the resolved view, or null if not needed
+     * @return the resulting table
+     */
+    public TranslationTable withFallback(final TranslationTable fallback) {
+        if (lazy) {
+            final TranslationTable result = new TranslationTable(languageId, translations, fallback);
+            result.lastAccess = lastAccess;
+            return result;
+        }
+        return new TranslationTable(this, fallback);
+    }
+
+    /**
+     * Retrieve the differences between this table and the specified translations
+     *
+     * @param updated The updated translations to compare against
+     * @return the changed or added translations, with removed keys mapped to null
+     */
+    public Map<String, String> getChangesFrom(final Map<String, String> updated) {
+        final Map<String, String> changes = StringUtils.newHashMap();
+        for (Map.Entry<String, String> entry : updated.entrySet()) {
+            if (!entry.getValue().equals(translations.get(entry.getKey()))) {
+                changes.put(entry.getKey(), entry.getValue());
+            }
+        }
+        for (String key : translations.keySet()) {
+            if (!updated.containsKey(key)) {
+                changes.put(key, null);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Create a copy of this table with the specified changes applied, reusing the compiled templates of unchanged keys
+     * <p>
+     * The resulting table has no fallback, and must be re-resolved before use
+     *
+     * @param changes The changed or added translations, with removed keys mapped to null
+     * @param keys    The registry to intern translation keys into, or null to skip indexing
+     * @return the resulting table
+     */
+    public TranslationTable withChanges(final Map<String, String> changes, final TranslationKeyRegistry keys) {
+        final Map<String, String> data = StringUtils.newHashMap(translations);
+        final Map<String, TranslationTemplate> compiled = StringUtils.newHashMap(templates);
+        for (Map.Entry<String, String> entry : changes.entrySet()) {
+            final String key = entry.getKey(), value = entry.getValue();
+            compiled.remove(key);
+            if (value == null) {
+                data.remove(key);
+            } else {
+                data.put(key, value);
+                if (value.indexOf('%') >= 0) {
+                    compiled.put(key, TranslationTemplate.compile(value));
+                }
+            }
+        }
+        final TranslationTable result = new TranslationTable(languageId, data, compiled, keys, packed != null);
+        result.lastAccess = lastAccess;
+        return result;
+    }
+
+    /**
+     * Retrieve the fallback table chained into the resolved view of this table, if any
+     *
+     * @return the fallback table, or null if not present
+     */
+    public TranslationTable getFallback() {
+        return fallback;
+    }
+
+    /**
+     * Retrieve the resolved view of this table, reading these translations before those of the fallback table
+     *
+     * @return the resolved view of this table
+     */
+    public TranslationTable getResolved() {
+        return resolved;
+    }
+
+    /**
+     * Record that the specified translation key was requested from this table, but is not present
+     *
+     * @param translationKey The raw String to interpret
+     * @return {@link Boolean#TRUE} if this is the first time this key was recorded
+     */
+    public boolean recordMissing(final String translationKey) {
+        return missingKeys.add(translationKey);
+    }
+
+    /**
+     * Determines whether the specified translation key has been recorded as missing from this table
+     *
+     * @param translationKey The raw String to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isMissing(final String translationKey) {
+        return missingKeys.contains(translationKey);
+    }
+
+    /**
+     * Retrieve the generation during which this table was last accessed
+     *
+     * @return the last access generation for this table
+     */
+    public long getLastAccess() {
+        return lastAccess;
+    }
+
+    /**
+     * Record that this table was accessed during the specified generation
+     *
+     * @param generation The current access generation
+     */
+    public void markAccessed(final long generation) {
+        // Only write when the generation advances, so repeated reads do not contend on this field
+        if (lastAccess < generation) {
+            lastAccess = generation;
+        }
+    }
+
+    /**
+     * Retrieve the language ID this table was loaded for
+     *
+     * @return the language ID for this table
+     */
+    public String getLanguageId() {
+        return languageId;
+    }
+
+    /**
+     * Retrieve an unmodifiable view of the translations within this table
+     *
+     * @return the translations within this table
+     */
+    public Map<String, String> getTranslations() {
+        return translations;
+    }
+
+    /**
+     * Retrieve the specified translation, if present
+     *
+     * @param translationKey The raw String to interpret
+     * @return the translated value, or null if not present
+     */
+    public String get(final String translationKey) {
+        return translations.get(translationKey);
+    }
+
+    /**
+     * Removes Color and/or Formatting Codes from a Translated String, as requested
+     *
+     * @param translatedString The Translated String to interpret
+     * @param stripColors      Whether to Remove Color Codes
+     * @param stripFormatting  Whether to Remove Formatting Codes
+     * @return The Stripped Translated String
+     */
+    public static String strip(final String translatedString, final boolean stripColors, final boolean stripFormatting) {
+        String result = translatedString;
+        if (stripFormatting && stripColors) {
+            result = StringUtils.stripAllFormatting(result);
+        } else {
+            if (stripColors) {
+                result = StringUtils.stripColors(result);
+            }
+            if (stripFormatting) {
+                result = StringUtils.stripFormatting(result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Retrieve the specified translation with Color and/or Formatting Codes removed, if present
+     * <p>
+     * Stripped values are computed once per key and strip mode, and reused on later calls
+     *
+     * @param translationKey  The raw String to interpret
+     * @param value           The translated value for this key, or null if not present
+     * @param stripColors     Whether to Remove Color Codes
+     * @param stripFormatting Whether to Remove Formatting Codes
+     * @return the stripped translated value, or null if not present
+     */
+    private String getStripped(final String translationKey, final String value, final boolean stripColors, final boolean stripFormatting) {
+        if (value == null || (!stripColors && !stripFormatting)) {
+            return value;
+        }
+        final Map<String, String> cache = stripColors && stripFormatting ? allStripped :
+                stripColors ? colorStripped : formattingStripped;
+        final String existing = cache.get(translationKey);
+        if (existing != null) {
+            return existing;
+        }
+        final String result = strip(value, stripColors, stripFormatting);
+        cache.put(translationKey, result);
+        return result;
+    }
+
+    /**
+     * Retrieve the specified translation with Color and/or Formatting Codes removed, if present
+     *
+     * @param translationKey  The raw String to interpret
+     * @param stripColors     Whether to Remove Color Codes
+     * @param stripFormatting Whether to Remove Formatting Codes
+     * @return the stripped translated value, or null if not present
+     */
+    public String get(final String translationKey, final boolean stripColors, final boolean stripFormatting) {
+        return getStripped(translationKey, get(translationKey), stripColors, stripFormatting);
+    }
+
+    /**
+     * Retrieve the specified translation with Color and/or Formatting Codes removed, if present
+     *
+     * @param translationKey  The key handle to interpret
+     * @param stripColors     Whether to Remove Color Codes
+     * @param stripFormatting Whether to Remove Formatting Codes
+     * @return the stripped translated value, or null if not present
+     */
+    public String get(final TranslationKey translationKey, final boolean stripColors, final boolean stripFormatting) {
+        return getStripped(translationKey.getKey(), get(translationKey), stripColors, stripFormatting);
+    }
+
+    /**
+     * Retrieve the specified translation, if present
+     *
+     * @param translationKey The key handle to interpret
+     * @return the translated value, or null if not present
+     */
+    public String get(final TranslationKey translationKey) {
+        if (primary != null) {
+            final String value = primary.get(translationKey);
+            return value != null ? value : fallback.get(translationKey);
+        }
+        if (lazy) {
+            return translations.get(translationKey.getKey());
+        }
+        final int index = translationKey.getId() - indexBase;
+        if (packed != null) {
+            if (indexedEntries == null) {
+                return packed.get(translationKey.getKey());
+            }
+            final int entry = index >= 0 && index < indexedEntries.length ? indexedEntries[index] : -1;
+            return entry >= 0 ? packed.getValueAt(entry) : null;
+        }
+        return index >= 0 && index < indexedTranslations.length ? indexedTranslations[index] : null;
+    }
+
+    /**
+     * Retrieve the specified translation, formatted with the specified arguments, if present
+     *
+     * @param translationKey The key handle to interpret
+     * @param parameters     Extra Formatting Arguments, if needed
+     * @return the formatted translated value, or null if not present
+     */
+    public String format(final TranslationKey translationKey, final Object... parameters) {
+        if (primary != null) {
+            final String value = primary.format(translationKey, parameters);
+            return value != null ? value : fallback.format(translationKey, parameters);
+        }
+        if (lazy) {
+            return format(translationKey.getKey(), parameters);
+        }
+        final String value = get(translationKey);
+        if (value == null || parameters.length == 0 || indexedTemplates == null) {
+            return value;
+        }
+        final TranslationTemplate template = indexedTemplates[translationKey.getId() - indexBase];
+        return template != null ? template.format(parameters) : value;
+    }
+
+    /**
+     * Retrieve the specified translation, formatted with the specified arguments, if present
+     *
+     * @param translationKey The raw String to interpret
+     * @param parameters     Extra Formatting Arguments, if needed
+     * @return the formatted translated value, or null if not present
+     */
+    public String format(final String translationKey, final Object... parameters) {
+        if (primary != null) {
+            final String value = primary.format(translationKey, parameters);
+            return value != null ? value : fallback.format(translationKey, parameters);
+        }
+        if (parameters.length > 0) {
+            TranslationTemplate template = templates.get(translationKey);
+            if (template == null && lazy) {
+                final String value = translations.get(translationKey);
+                if (value == null || value.indexOf('%') < 0) {
+                    return value;
+                }
+                template = TranslationTemplate.compile(value);
+                templates.put(translationKey, template);
+            }
+            if (template != null) {
+                return template.format(parameters);
+            }
+        }
+        return translations.get(translationKey);
+    }
+
+    /**
+     * Determines whether the specified translation exists in this table
+     *
+     * @param translationKey The raw String to interpret
+     * @return whether the specified translation exists
+     */
+    public boolean containsKey(final String translationKey) {
+        return translations.containsKey(translationKey);
+    }
+
+    /**
+     * Retrieve the amount of translations within this table
+     *
+     * @return the amount of translations
+     */
+    public int size() {
+        return translations.size();
+    }
+
+    /**
+     * Determines whether this table uses compact storage
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isCompact() {
+        return packed != null;
+    }
+
+    /**
+     * Determines whether this table reads its translations on demand
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * Determines whether this table contains no translations
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isEmpty() {
+        return translations.isEmpty();
+    }
+
+    /**
+     * A read-only view over two maps, preferring the values of the primary map
+     */
+    private static class ChainedTranslationMap extends AbstractMap<String, String> {
+        /**
+         * The map to retrieve values from first
+         */
+        private final Map<String, String> primary;
+        /**
+         * The map to retrieve values from, if not present in {@link ChainedTranslationMap#primary}
+         */
+        private final Map<String, String> secondary;
+
+        /**
+         * Initialize a new view over the specified maps
+         *
+         * @param primary   The map to retrieve values from first
+         * @param secondary The map to retrieve values from, if not present in the primary map
+         */
+        private ChainedTranslationMap(final Map<String, String> primary, final Map<String, String> secondary) {
+            this.primary = primary;
+            this.secondary = secondary;
+        }
+
+        @Override
+        public String get(final Object key) {
+            final String value = primary.get(key);
+            return value != null ? value : secondary.get(key);
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return primary.containsKey(key) || secondary.containsKey(key);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return primary.isEmpty() && secondary.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            int size = primary.size();
+            for (String key : secondary.keySet()) {
+                if (!primary.containsKey(key)) {
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            final Map<String, String> merged = StringUtils.newHashMap(secondary);
+            merged.putAll(primary);
+            return Collections.unmodifiableMap(merged).entrySet();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2025 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cdagaming.unicore.integrations.translation;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.Formattable;
+import java.util.List;
+import java.util.MissingFormatArgumentException;
+
+/**
+ * A pre-compiled {@link String#format(String, Object...)} pattern, split into literal segments and argument slots
+ * <p>
+ * Only plain string specifiers ({@code %s} and {@code %1$s}), alongside {@code %%} and {@code %n}, are compiled.
+ * Patterns using any other conversion, flag, width or precision are rendered through {@link String#format(String, Object...)}
+ *
+ * @author CDAGaming
+ */
+public class TranslationTemplate {
+    /**
+     * The per-thread builder used when rendering templates
+     */
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+    /**
+     * The maximum capacity a per-thread builder may retain between renders
+     */
+    private static final int MAX_RETAINED_CAPACITY = 8192;
+    /**
+     * The original pattern this template was compiled from
+     */
+    private final String pattern;
+    /**
+     * The literal segments of this template, positioned before each argument slot
+     * <p>
+     * Contains one more entry than {@link TranslationTemplate#slots}, with the last entry being the trailing literal
+     */
+    private final String[] literals;
+    /**
+     * The argument indexes to insert between each literal segment
+     */
+    private final int[] slots;
+    /**
+     * Whether this template could not be compiled, and must use {@link String#format(String, Object...)}
+     */
+    private final boolean useFormatter;
+
+    /**
+     * Initialize a new template, with the specified arguments
+     *
+     * @param pattern      The original pattern this template was compiled from
+     * @param literals     The literal segments of this template
+     * @param slots        The argument indexes to insert between each literal segment
+     * @param useFormatter Whether this template must use {@link String#format(String, Object...)}
+     */
+    private TranslationTemplate(final String pattern, final String[] literals, final int[] slots, final boolean useFormatter) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.slots = slots;
+        this.useFormatter = useFormatter;
+    }
+
+    /**
+     * Compile the specified pattern into a template
+     *
+     * @param pattern The pattern to interpret
+     * @return the compiled template
+     */
+    public static TranslationTemplate compile(final String pattern) {
+        final List<String> literals = StringUtils.newArrayList();
+        final List<Integer> slots = StringUtils.newArrayList();
+        final StringBuilder current = new StringBuilder();
+        final int length = pattern.length();
+        int ordinaryIndex = 0;
+
+        int position = 0;
+        while (position < length) {
+            final char c = pattern.charAt(position++);
+            if (c != '%') {
+                current.append(c);
+                continue;
+            }
+            if (position >= length) {
+                return new TranslationTemplate(pattern, null, null, true);
+            }
+
+            final char next = pattern.charAt(position);
+            if (next == '%') {
+                current.append('%');
+                position++;
+            } else if (next == 'n') {
+                current.append(System.lineSeparator());
+                position++;
+            } else {
+                // Parse an optional explicit argument index, such as "%2$s"
+                int digitEnd = position, explicitIndex = 0;
+                while (digitEnd < length && Character.isDigit(pattern.charAt(digitEnd))) {
+                    explicitIndex = explicitIndex * 10 + (pattern.charAt(digitEnd) - '0');
+                    digitEnd++;
+                }
+                final boolean hasExplicitIndex = digitEnd > position && digitEnd < length && pattern.charAt(digitEnd) == '$';
+                final int conversion = hasExplicitIndex ? digitEnd + 1 : position;
+
+                if (conversion >= length || pattern.charAt(conversion) != 's' || (hasExplicitIndex && explicitIndex < 1)) {
+                    return new TranslationTemplate(pattern, null, null, true);
+                }
+                literals.add(current.toString());
+                current.setLength(0);
+                slots.add(hasExplicitIndex ? explicitIndex - 1 : ordinaryIndex++);
+                position = conversion + 1;
+            }
+        }
+        literals.add(current.toString());
+
+        final int[] slotData = new int[slots.size()];
+        for (int i = 0; i < slotData.length; i++) {
+            slotData[i] = slots.get(i);
+        }
+        return new TranslationTemplate(pattern, literals.toArray(new String[0]), slotData, false);
+    }
+
+    /**
+     * Retrieve the original pattern this template was compiled from
+     *
+     * @return the original pattern
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Render this template with the specified arguments
+     *
+     * @param parameters The Formatting Arguments to interpret
+     * @return the rendered string
+     */
+    public String format(final Object... parameters) {
+        if (useFormatter) {
+            return String.format(pattern, parameters);
+        }
+        for (int slot : slots) {
+            if (slot >= parameters.length) {
+                throw new MissingFormatArgumentException("Format specifier '%s'");
+            }
+            if (parameters[slot] instanceof Formattable) {
+                return String.format(pattern, parameters);
+            }
+        }
+
+        // Converting arguments may re-enter this method on the same thread,
+        // so only the region past our starting point is ever used or reset
+        final StringBuilder sb = BUILDER.get();
+        final int start = sb.length();
+        try {
+            for (int i = 0; i < slots.length; i++) {
+                sb.append(literals[i]).append(parameters[slots[i]]);
+            }
+            sb.append(literals[slots.length]);
+            return sb.substring(start);
+        } finally {
+            sb.setLength(start);
+            if (start == 0 && sb.capacity() > MAX_RETAINED_CAPACITY) {
+                sb.trimToSize();
+            }
+        }
+    }
+}
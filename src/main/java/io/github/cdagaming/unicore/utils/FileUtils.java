@@ -30,6 +30,10 @@ import com.google.gson.JsonParser;
 import com.google.gson.stream.JsonReader;
 import io.github.cdagaming.unicore.UniCore;
 import io.github.cdagaming.unicore.impl.Pair;
+import io.github.cdagaming.unicore.integrations.scanning.ClassIndex;
+import io.github.cdagaming.unicore.integrations.scanning.ClassScanCache;
+import io.github.cdagaming.unicore.integrations.scanning.ClasspathElement;
+import io.github.cdagaming.unicore.integrations.scanning.ScannedClass;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
@@ -62,25 +66,49 @@ public class FileUtils {
      */
     private static final GsonBuilder GSON_BUILDER = new GsonBuilder();
     /**
-     * The list of the currently detected class names
+     * The index of the currently detected classes
+     * <p>
+     * Scans build a new index in isolation and publish it here once complete,
+     * so readers always observe a complete and unchanging set of classes
      */
-    private static final Map<String, ClassInfo> CLASS_MAP = StringUtils.newHashMap();
+    private static volatile ClassIndex CLASS_INDEX = ClassIndex.EMPTY;
+    /**
+     * The lock held while scanning or clearing the detected classes
+     */
+    private static final Object CLASS_LOCK = new Object();
+    /**
+     * The packages excluded from class scans
+     */
+    private static final String[] REJECTED_PACKAGES = {
+            "net.java", "com.sun", "com.jcraft", "com.intellij", "jdk", "akka", "ibxm", "scala",
+            "*.mixin.*", "*.mixins.*", "*.jetty.*"
+    };
     /**
      * The list of the currently cached class nameToObject retrievals
+     * <p>
+     * Classes that could not be found are stored as {@link Optional#empty()}
      */
-    private static final Map<String, Class<?>> CLASS_CACHE = StringUtils.newHashMap();
+    private static final Map<String, Optional<Class<?>>> CLASS_CACHE = StringUtils.newConcurrentHashMap();
     /**
      * The list of currently allocated Thread Factories
      */
-    private static final Map<String, Pair<ScheduledExecutorService, ThreadFactory>> THREAD_FACTORY_MAP = StringUtils.newHashMap();
+    private static final Map<String, Pair<ScheduledExecutorService, ThreadFactory>> THREAD_FACTORY_MAP = StringUtils.newConcurrentHashMap();
     /**
      * Whether the class list from {@link FileUtils#getClassMap()} is being iterated upon
      */
-    private static boolean ARE_CLASSES_LOADING = false;
+    private static volatile boolean ARE_CLASSES_LOADING = false;
     /**
      * Whether we have already performed a full class scan through {@link FileUtils#getClassMap()}
      */
-    private static boolean ARE_CLASSES_SCANNED = false;
+    private static volatile boolean ARE_CLASSES_SCANNED = false;
+    /**
+     * Whether we have already retrieved class descriptors through {@link FileUtils#getScannedClassMap()}
+     */
+    private static volatile boolean ARE_CLASS_NAMES_SCANNED = false;
+    /**
+     * The file to store class scan results in, or null to disable the class scan cache
+     */
+    private static File CLASS_CACHE_FILE = null;
     /**
      * Whether functions utilizing ClassGraph are enabled
      */
@@ -93,8 +121,9 @@ public class FileUtils {
      */
     public static void shutdownScheduler(final String... args) {
         for (String name : args) {
-            if (THREAD_FACTORY_MAP.containsKey(name)) {
-                THREAD_FACTORY_MAP.get(name).getFirst().shutdown();
+            final Pair<ScheduledExecutorService, ThreadFactory> data = THREAD_FACTORY_MAP.get(name);
+            if (data != null) {
+                data.getFirst().shutdown();
             }
         }
     }
@@ -115,16 +144,14 @@ public class FileUtils {
      * @return the created Scheduler pair, containing the {@link ScheduledExecutorService} and {@link ThreadFactory}
      */
     public static Pair<ScheduledExecutorService, ThreadFactory> getOrCreateScheduler(final String name) {
-        if (!THREAD_FACTORY_MAP.containsKey(name)) {
+        return THREAD_FACTORY_MAP.computeIfAbsent(name, key -> {
             final ThreadFactory threadFactory = r -> {
-                final Thread t = new Thread(r, name);
+                final Thread t = new Thread(r, key);
                 t.setDaemon(true);
                 return t;
             };
-            final ScheduledExecutorService exec = Executors.newSingleThreadScheduledExecutor(threadFactory);
-            THREAD_FACTORY_MAP.put(name, new Pair<>(exec, threadFactory));
-        }
-        return THREAD_FACTORY_MAP.get(name);
+            return new Pair<>(Executors.newSingleThreadScheduledExecutor(threadFactory), threadFactory);
+        });
     }
 
     /**
@@ -565,76 +592,36 @@ public class FileUtils {
      * @return The List of found class names from the search
      */
     public static Map<String, ClassInfo> getClassNamesMatchingSuperType(final List<Class<?>> searchList, final String... sourcePackages) {
-        final Map<String, ClassInfo> matchingClasses = StringUtils.newHashMap();
-        if (!isClassGraphEnabled()) return matchingClasses;
-
-        final Map<String, ClassInfo> subClassData = StringUtils.newHashMap();
-        for (Map.Entry<String, ClassInfo> classInfo : getClasses(sourcePackages).entrySet()) {
-            for (Class<?> searchClass : searchList) {
-                if (isSubclassOf(classInfo.getValue(), searchClass, subClassData)) {
-                    // If superclass data was found, add the scanned classes
-                    for (Map.Entry<String, ClassInfo> subClassInfo : subClassData.entrySet()) {
-                        if (!matchingClasses.containsKey(subClassInfo.getKey())) {
-                            matchingClasses.put(subClassInfo.getKey(), subClassInfo.getValue());
-                        }
-                    }
-
-                    break;
-                } else {
-                    // If no superclass data found, reset for next data
-                    subClassData.clear();
+        if (!isClassGraphEnabled()) return StringUtils.newHashMap();
+
+        final Set<String> classNames = getScannedClassNamesMatchingSuperType(searchList, sourcePackages);
+        final Map<String, ClassInfo> matchingClasses = StringUtils.newHashMap(getClassInfo(classNames));
+        if (matchingClasses.size() < classNames.size()) {
+            // Super types that were not detected themselves are resolved from the hierarchy of their subtypes
+            for (ClassInfo classInfo : StringUtils.newArrayList(matchingClasses.values())) {
+                for (ClassInfo superType : classInfo.getSuperclasses()) {
+                    putIfMatching(superType, classNames, matchingClasses);
+                }
+                for (ClassInfo superType : classInfo.getInterfaces()) {
+                    putIfMatching(superType, classNames, matchingClasses);
                 }
             }
         }
-
         return matchingClasses;
     }
 
     /**
-     * Retrieves sub/super class data for the specified data
+     * Add the specified class info to the specified results, if its name is one of the specified class names
      *
-     * @param originalClass  The original class to scan for the specified sub/super-class
-     * @param superClass     The sub/super-class target to locate
-     * @param scannedClasses The class hierarchy of scanned data (Output Value)
-     * @return whether we found sub/super class data
+     * @param classInfo  The class info to interpret
+     * @param classNames The class names to interpret
+     * @param results    The results to add to
      */
-    protected static boolean isSubclassOf(final ClassInfo originalClass, final Class<?> superClass, final Map<String, ClassInfo> scannedClasses) {
-        if (!isClassGraphEnabled() || originalClass == null || superClass == null) {
-            return false;
-        }
-
-        // Store the target name for the superclass
-        final String superClassName = MappingUtils.getCanonicalName(superClass);
-
-        // To track visited classes to prevent cycles and redundant checks
-        final Set<ClassInfo> visitedClasses = StringUtils.newHashSet();
-
-        // Stack to simulate the recursion
-        final Deque<ClassInfo> stack = new ArrayDeque<>();
-        stack.push(originalClass);
-
-        while (!stack.isEmpty()) {
-            final ClassInfo currentClass = stack.pop();
-
-            // Mark the current class as visited
-            if (visitedClasses.add(currentClass)) {
-                // Get the canonical name and add it to scannedClasses
-                final String className = MappingUtils.getCanonicalName(currentClass);
-                scannedClasses.put(className, currentClass);
-
-                // Check if the current class is the target superclass
-                if (className.equals(superClassName)) {
-                    return true;
-                }
-
-                // Add superclass to the stack if not already visited
-                final ClassInfo superClassInfo = currentClass.getSuperclass();
-                if (superClassInfo != null && !visitedClasses.contains(superClassInfo)) {
-                    stack.push(superClassInfo);
-                }
-            }
+    private static void putIfMatching(final ClassInfo classInfo, final Set<String> classNames, final Map<String, ClassInfo> results) {
+        final String className = MappingUtils.getCanonicalName(classInfo);
+        if (classNames.contains(className) && !results.containsKey(className)) {
+            results.put(className, classInfo);
         }
-        return false;
     }
 
     /**
@@ -648,6 +635,36 @@ public class FileUtils {
         return getClassNamesMatchingSuperType(StringUtils.newArrayList(searchTarget), sourcePackages);
     }
 
+    /**
+     * Retrieve a List of Class Names that extend or implement anything in the search list, using {@link FileUtils#getScannedClassMap()}
+     *
+     * @param searchList     The Super Type Classes to look for
+     * @param sourcePackages The root package directories to search within
+     * @return The List of found class names from the search, including the class hierarchy of each match
+     */
+    public static Set<String> getScannedClassNamesMatchingSuperType(final List<Class<?>> searchList, final String... sourcePackages) {
+        final Set<String> matchingClasses = StringUtils.newHashSet();
+        if (!isClassGraphEnabled()) return matchingClasses;
+
+        detectClassNames();
+        final ClassIndex index = CLASS_INDEX;
+        for (Class<?> searchClass : searchList) {
+            matchingClasses.addAll(index.getSubTypes(MappingUtils.getCanonicalName(searchClass), sourcePackages));
+        }
+        return matchingClasses;
+    }
+
+    /**
+     * Retrieve a List of Class Names that extend or implement the search target, using {@link FileUtils#getScannedClassMap()}
+     *
+     * @param searchTarget   The Super Type Class to look for
+     * @param sourcePackages The root package directories to search within
+     * @return The List of found class names from the search, including the class hierarchy of each match
+     */
+    public static Set<String> getScannedClassNamesMatchingSuperType(final Class<?> searchTarget, final String... sourcePackages) {
+        return getScannedClassNamesMatchingSuperType(StringUtils.newArrayList(searchTarget), sourcePackages);
+    }
+
     /**
      * Attempts to cast or convert an object to the specified target class.
      * It supports casting for compatible reference types and conversion for
@@ -731,17 +748,18 @@ public class FileUtils {
                 case "void":
                     return void.class;
                 default: {
-                    if (!CLASS_CACHE.containsKey(path) || forceCache) {
-                        Class<?> result = null;
+                    Optional<Class<?>> result = CLASS_CACHE.get(path);
+                    if (result == null || forceCache) {
+                        Class<?> classObj = null;
                         try {
-                            result = Class.forName(path, init, loader);
+                            classObj = Class.forName(path, init, loader);
                         } catch (Throwable ignored) {
                         }
+                        result = Optional.ofNullable(classObj);
                         CLASS_CACHE.put(path, result);
                     }
-                    final Class<?> result = CLASS_CACHE.get(path);
-                    if (result != null) {
-                        return result;
+                    if (result.isPresent()) {
+                        return result.get();
                     }
                 }
             }
@@ -862,107 +880,518 @@ public class FileUtils {
     }
 
     /**
-     * Begin a new Thread, executing {@link FileUtils#getClassMap()}
+     * Retrieve the file to store class scan results in
+     *
+     * @return the class scan cache file, or null if the class scan cache is disabled
+     */
+    public static File getClassCacheFile() {
+        return CLASS_CACHE_FILE;
+    }
+
+    /**
+     * Sets the file to store class scan results in
+     * <p>
+     * When set, scanned classes are stored alongside a fingerprint of the classpath element they were found in,
+     * allowing {@link FileUtils#getScannedClassMap()} to only rescan elements that changed on later launches
+     *
+     * @param cacheFile the new cache file, or null to disable the class scan cache
+     */
+    public static void setClassCacheFile(final File cacheFile) {
+        CLASS_CACHE_FILE = cacheFile;
+    }
+
+    /**
+     * Begin a new Thread, executing {@link FileUtils#getScannedClassMap()}
+     * <p>
+     * When the class scan cache is valid, no full class scan is performed. {@link FileUtils#getClasses(String...)} and
+     * {@link FileUtils#getClassNamesMatchingSuperType(List, String...)} then only scan their matching classes,
+     * with {@link FileUtils#getClassMap()} performing a full class scan on first use
      */
     public static void detectClasses() {
+        detectClasses(false);
+    }
+
+    /**
+     * Begin a new Thread, executing {@link FileUtils#getScannedClassMap()}
+     * <p>
+     * {@link FileUtils#getClassMap()} requires a full class scan,
+     * which is only performed here if requested and not already done while retrieving class descriptors
+     *
+     * @param scanClassInfo Whether to also perform a full class scan, if one has not already been performed
+     */
+    public static void detectClasses(final boolean scanClassInfo) {
         if (isClassGraphEnabled()) {
-            UniCore.getThreadFactory().newThread(FileUtils::getClassMap).start();
+            UniCore.getThreadFactory().newThread(() -> {
+                detectClassNames();
+                if (scanClassInfo) {
+                    detectClassInfo();
+                }
+            }).start();
         }
     }
 
     /**
-     * Retrieve and Cache all known classes within the Class Loader
+     * Create a new {@link ClassGraph} instance, configured to scan the JVM Class Loader
      *
-     * @return a map of all known classes
+     * @return the resulting instance
      */
-    public static Map<String, ClassInfo> getClassMap() {
-        if (isClassGraphEnabled() && canScanClasses() && !hasScannedClasses()) {
-            ARE_CLASSES_LOADING = true;
+    private static ClassGraph createClassGraph() {
+        return createClassGraph(null);
+    }
 
-            // Attempt to get all possible classes from the JVM Class Loader
-            final ClassGraph graphInfo = new ClassGraph()
-                    .enableClassInfo()
-                    .rejectPackages(
-                            "net.java", "com.sun", "com.jcraft", "com.intellij", "jdk", "akka", "ibxm", "scala",
-                            "*.mixin.*", "*.mixins.*", "*.jetty.*"
-                    )
-                    .disableModuleScanning();
-            if (OSUtils.JAVA_SPEC < 16) {
-                // If we are below Java 16, we can just use the Thread's classloader
-                // See: https://github.com/classgraph/classgraph/wiki#running-on-jdk-16
-                graphInfo.overrideClassLoaders(CLASS_LOADER);
+    /**
+     * Create a new {@link ClassGraph} instance, configured to scan the specified classpath entries
+     *
+     * @param classpath The classpath entries to scan, or null to scan the JVM Class Loader
+     * @return the resulting instance
+     */
+    private static ClassGraph createClassGraph(final List<File> classpath) {
+        final ClassGraph graphInfo = new ClassGraph()
+                .enableClassInfo()
+                .rejectPackages(REJECTED_PACKAGES)
+                .disableModuleScanning();
+        if (classpath != null) {
+            graphInfo.overrideClasspath(classpath);
+        } else if (OSUtils.JAVA_SPEC < 16) {
+            // If we are below Java 16, we can just use the Thread's classloader
+            // See: https://github.com/classgraph/classgraph/wiki#running-on-jdk-16
+            graphInfo.overrideClassLoaders(CLASS_LOADER);
+        }
+        return graphInfo;
+    }
+
+    /**
+     * Perform a full class scan, publishing both class info and class descriptors
+     * <p>
+     * The results are stored in the class scan cache, if enabled
+     */
+    private static void scanClasses() {
+        // Attempt to get all possible classes from the JVM Class Loader
+        final ClassIndex.Builder builder = new ClassIndex.Builder();
+        try (ScanResult scanResult = createClassGraph().scan()) {
+            final Map<String, ScannedClass> classes = StringUtils.newHashMap();
+            final List<ClasspathElement> elements = indexClasses(scanResult, scanResult.getClasspathFiles(), classes);
+            for (ClasspathElement element : elements) {
+                builder.getElements().put(element.getPath(), element);
             }
+            for (Map.Entry<String, ScannedClass> entry : classes.entrySet()) {
+                builder.putClass(entry.getKey(), entry.getValue());
+            }
+            builder.setComplete(isAttributed(elements, classes));
+            CLASS_INDEX = builder.build();
+            ARE_CLASS_NAMES_SCANNED = true;
+            writeCachedClasses(CLASS_INDEX);
+        } catch (Throwable ex) {
+            UniCore.LOG.debugError(ex);
+        }
+    }
 
-            try (ScanResult scanResult = graphInfo.scan()) {
-                for (ClassInfo result : scanResult.getAllClasses()) {
-                    final String resultName = MappingUtils.getMappedPath(result.getName());
-                    if (!CLASS_MAP.containsKey(resultName) && !resultName.toLowerCase().contains("mixin")) {
-                        CLASS_MAP.put(resultName, result);
-                    }
+    /**
+     * Rescan any classpath elements that were added, removed or modified since they were last scanned
+     * <p>
+     * Classes from unchanged jars and directories are kept as-is, so that the cost of a rescan is proportional
+     * to the elements that changed, rather than to the whole classpath. If no classes have been scanned yet,
+     * this performs the initial scan instead
+     */
+    public static void rescanClasses() {
+        if (!isClassGraphEnabled() || !canScanClasses()) return;
+        if (!ARE_CLASS_NAMES_SCANNED) {
+            detectClassNames();
+            return;
+        }
+
+        synchronized (CLASS_LOCK) {
+            ARE_CLASSES_LOADING = true;
+            try {
+                final ClassIndex.Builder builder = new ClassIndex.Builder(CLASS_INDEX);
+                if (updateClasspath(builder, createClassGraph().getClasspathFiles())) {
+                    CLASS_INDEX = builder.build();
+                    writeCachedClasses(CLASS_INDEX);
                 }
             } catch (Throwable ex) {
                 UniCore.LOG.debugError(ex);
+            } finally {
+                ARE_CLASSES_LOADING = false;
+            }
+        }
+    }
+
+    /**
+     * Bring the specified classes up-to-date with the specified classpath, scanning only the elements that changed
+     *
+     * @param builder   The classes to update
+     * @param classpath The current classpath entries, in classpath order
+     * @return {@link Boolean#TRUE} if any classpath elements were added, removed or modified
+     */
+    private static boolean updateClasspath(final ClassIndex.Builder builder, final List<File> classpath) {
+        final Map<String, ClasspathElement> elements = builder.getElements();
+        final Map<String, ClasspathElement> unchanged = StringUtils.newHashMap();
+        final List<File> changed = StringUtils.newArrayList();
+        for (File entry : classpath) {
+            final ClasspathElement existing = elements.get(entry.getAbsolutePath());
+            if (existing != null && Arrays.equals(existing.getFingerprint(), ClassScanCache.getElementFingerprint(entry))) {
+                unchanged.put(existing.getPath(), existing);
+            } else {
+                changed.add(entry);
+            }
+        }
+        if (changed.isEmpty() && unchanged.size() == elements.size()) return false;
+
+        // Collect the classes of any element that was removed or modified, alongside those of their replacements
+        final Set<String> affected = StringUtils.newHashSet();
+        for (ClasspathElement element : elements.values()) {
+            if (!unchanged.containsKey(element.getPath())) {
+                for (ScannedClass result : element.getClasses()) {
+                    affected.add(MappingUtils.getMappedPath(result.getName()));
+                }
+            }
+        }
+        final Map<String, ClasspathElement> scanned = StringUtils.newHashMap();
+        final Map<String, ScannedClass> classes = StringUtils.newHashMap();
+        if (!changed.isEmpty()) {
+            try (ScanResult scanResult = createClassGraph(changed).scan()) {
+                final List<ClasspathElement> results = indexClasses(scanResult, changed, classes);
+                for (ClasspathElement element : results) {
+                    scanned.put(element.getPath(), element);
+                }
+                if (!isAttributed(results, classes)) {
+                    builder.setComplete(false);
+                }
             }
+            affected.addAll(classes.keySet());
+        }
 
-            ARE_CLASSES_LOADING = false;
-            ARE_CLASSES_SCANNED = true;
+        elements.clear();
+        for (File entry : classpath) {
+            final String path = entry.getAbsolutePath();
+            final ClasspathElement element = unchanged.containsKey(path) ? unchanged.get(path) : scanned.get(path);
+            if (element != null) {
+                elements.put(path, element);
+            }
         }
-        return StringUtils.newHashMap(CLASS_MAP);
+        resolveClasses(builder, affected, classes);
+        UniCore.LOG.debugInfo("Rescanned " + changed.size() + " modified classpath element(s), keeping " + unchanged.size() + " unchanged element(s)");
+        return true;
     }
 
-    public static void clearClassMap(final boolean allowReScan) {
-        if (allowReScan) {
-            ARE_CLASSES_SCANNED = false;
+    /**
+     * Assign each of the specified class names to the first classpath element providing it, in classpath order
+     * <p>
+     * This matches the shadowing of a full class scan, where a class within an earlier element
+     * takes priority over the same class within any later element
+     *
+     * @param builder    The classes to update, alongside the classpath elements in classpath order
+     * @param classNames The mapped class names to interpret
+     * @param classes    The class descriptors found in the latest scan
+     */
+    private static void resolveClasses(final ClassIndex.Builder builder, final Set<String> classNames, final Map<String, ScannedClass> classes) {
+        final Set<String> remaining = StringUtils.newHashSet();
+        remaining.addAll(classNames);
+        for (ClasspathElement element : builder.getElements().values()) {
+            if (remaining.isEmpty()) break;
+
+            for (ScannedClass result : element.getClasses()) {
+                final String resultName = MappingUtils.getMappedPath(result.getName());
+                if (remaining.remove(resultName) && builder.getScannedClass(resultName) != result) {
+                    builder.putClass(resultName, result);
+                }
+            }
+        }
+
+        // Classes no longer provided by any element are removed, unless found outside of a known element
+        for (String className : remaining) {
+            final ScannedClass result = classes.get(className);
+            if (result != null) {
+                builder.putClass(className, result);
+            } else {
+                builder.removeClass(className);
+            }
         }
-        CLASS_MAP.clear();
     }
 
-    public static void clearClassMap() {
-        clearClassMap(false);
+    /**
+     * Index the classes within the specified scan, grouping them by the classpath element they were found in
+     *
+     * @param scanResult The scan to interpret
+     * @param classpath  The classpath entries that were scanned
+     * @param classes    The map to store the class descriptor of each class in
+     * @return the resulting classpath elements, in classpath order
+     */
+    private static List<ClasspathElement> indexClasses(final ScanResult scanResult, final List<File> classpath, final Map<String, ScannedClass> classes) {
+        final Map<String, List<ScannedClass>> elementClasses = StringUtils.newLinkedHashMap();
+        for (File entry : classpath) {
+            elementClasses.put(entry.getAbsolutePath(), StringUtils.newArrayList());
+        }
+        for (ClassInfo result : scanResult.getAllClasses()) {
+            final String resultName = MappingUtils.getMappedPath(result.getName());
+            if (!classes.containsKey(resultName) && !resultName.toLowerCase().contains("mixin")) {
+                final ScannedClass scannedClass = ScannedClass.from(result);
+                classes.put(resultName, scannedClass);
+
+                final File elementFile = result.getClasspathElementFile();
+                final List<ScannedClass> elementList = elementFile != null ? elementClasses.get(elementFile.getAbsolutePath()) : null;
+                if (elementList != null) {
+                    elementList.add(scannedClass);
+                }
+            }
+        }
+
+        final List<ClasspathElement> results = StringUtils.newArrayList();
+        for (File entry : classpath) {
+            final String path = entry.getAbsolutePath();
+            results.add(new ClasspathElement(path, ClassScanCache.getElementFingerprint(entry), elementClasses.get(path)));
+        }
+        return results;
     }
 
     /**
-     * Retrieve a list of all classes matching the specified lists of paths
+     * Return whether every specified class belongs to one of the specified classpath elements
+     * <p>
+     * Classes from nested or unrecognized elements cannot be attributed to a classpath entry,
+     * and would be lost if the class scan cache were used on a later launch
      *
-     * @param paths A nullable list of paths to be interpreted
-     * @return the resulting list
+     * @param elements The classpath elements to interpret
+     * @param classes  The class descriptors indexed alongside these elements
+     * @return {@link Boolean#TRUE} if condition is satisfied
      */
-    public static Map<String, ClassInfo> getClasses(final String... paths) {
-        final Map<String, ClassInfo> results = StringUtils.newHashMap();
-        if (!isClassGraphEnabled()) return results;
+    private static boolean isAttributed(final List<ClasspathElement> elements, final Map<String, ScannedClass> classes) {
+        int attributed = 0;
+        for (ClasspathElement element : elements) {
+            attributed += element.getClasses().size();
+        }
+        if (attributed < classes.size()) {
+            UniCore.LOG.debugInfo((classes.size() - attributed) + " scanned class(es) were found outside of a known classpath element");
+            return false;
+        }
+        return true;
+    }
 
-        final Map<String, Set<String>> unmappedNames = StringUtils.newHashMap();
-        final boolean hasNoPaths = paths == null || paths.length == 0;
-        if (!hasNoPaths) {
-            for (String path : paths) {
-                unmappedNames.put(path, MappingUtils.getUnmappedClassesMatching(path));
+    /**
+     * Add the specified classpath elements and their classes, if not already present
+     *
+     * @param builder  The classes to add to
+     * @param elements The classpath elements to interpret
+     */
+    private static void putClasspathElements(final ClassIndex.Builder builder, final List<ClasspathElement> elements) {
+        for (ClasspathElement element : elements) {
+            builder.getElements().put(element.getPath(), element);
+            for (ScannedClass result : element.getClasses()) {
+                final String resultName = MappingUtils.getMappedPath(result.getName());
+                if (!builder.hasClass(resultName) && !resultName.toLowerCase().contains("mixin")) {
+                    builder.putClass(resultName, result);
+                }
             }
         }
+    }
 
-        for (Map.Entry<String, ClassInfo> classInfo : getClassMap().entrySet()) {
-            if (classInfo != null) {
-                final String classPath = classInfo.getKey();
-                boolean hasMatch = hasNoPaths;
-                // Attempt to Add Classes Matching any of the Source Packages
-                if (!hasNoPaths) {
-                    for (String path : paths) {
-                        final Set<String> unmapped = unmappedNames.get(path);
-                        if (classPath.startsWith(path) || unmapped.contains(classPath)) {
-                            hasMatch = true;
-                            break;
+    /**
+     * Populate the detected classes from the class scan cache, if enabled
+     * <p>
+     * Only classpath elements that were added, removed or modified since the cache was written are rescanned
+     *
+     * @return {@link Boolean#TRUE} if the cached results were used
+     */
+    private static boolean loadCachedClasses() {
+        if (CLASS_CACHE_FILE == null) return false;
+
+        try {
+            final List<ClasspathElement> cached = ClassScanCache.read(
+                    CLASS_CACHE_FILE, ClassScanCache.getSettingsFingerprint(REJECTED_PACKAGES)
+            );
+            if (cached != null) {
+                final ClassIndex.Builder builder = new ClassIndex.Builder();
+                putClasspathElements(builder, cached);
+                final boolean changed = updateClasspath(builder, createClassGraph().getClasspathFiles());
+                CLASS_INDEX = builder.build();
+                ARE_CLASS_NAMES_SCANNED = true;
+                if (changed) {
+                    writeCachedClasses(CLASS_INDEX);
+                }
+                return true;
+            }
+        } catch (Throwable ex) {
+            UniCore.LOG.debugError(ex);
+        }
+        return false;
+    }
+
+    /**
+     * Store the classpath elements of the specified index in the class scan cache, if enabled
+     * <p>
+     * Incomplete indexes are not stored, as their unattributed classes could not be restored from the cache
+     *
+     * @param index The index to store
+     */
+    private static void writeCachedClasses(final ClassIndex index) {
+        if (CLASS_CACHE_FILE == null) return;
+
+        if (index.isComplete()) {
+            ClassScanCache.write(CLASS_CACHE_FILE, ClassScanCache.getSettingsFingerprint(REJECTED_PACKAGES), index.getElements().values());
+        } else {
+            UniCore.LOG.debugInfo("Skipping class scan cache, as some classes could not be attributed to a classpath element");
+        }
+    }
+
+    /**
+     * Retrieve and Cache all known classes within the Class Loader
+     * <p>
+     * If a scan is in progress on another thread, the classes published before it began are returned
+     *
+     * @return an unmodifiable view of all known classes
+     */
+    public static Map<String, ClassInfo> getClassMap() {
+        detectClassInfo();
+        return CLASS_INDEX.getClassInfo();
+    }
+
+    /**
+     * Retrieve the class info for the specified detected classes
+     * <p>
+     * If no full class scan has been performed, such as when classes were read from the class scan cache,
+     * only the requested classes without class info are scanned
+     *
+     * @param classNames The mapped class names to interpret
+     * @return the class info of each detected class, keyed by class name
+     */
+    private static Map<String, ClassInfo> getClassInfo(final Collection<String> classNames) {
+        ClassIndex index = CLASS_INDEX;
+        if (!hasScannedClasses() && canScanClasses()) {
+            final List<String> missing = StringUtils.newArrayList();
+            for (String className : classNames) {
+                final ScannedClass scannedClass = index.getClasses().get(className);
+                if (scannedClass != null && !index.getClassInfo().containsKey(className)) {
+                    missing.add(scannedClass.getName());
+                }
+            }
+            if (!missing.isEmpty()) {
+                synchronized (CLASS_LOCK) {
+                    ARE_CLASSES_LOADING = true;
+                    try (ScanResult scanResult = createClassGraph().acceptClasses(missing.toArray(new String[0])).scan()) {
+                        final ClassIndex.Builder builder = new ClassIndex.Builder(CLASS_INDEX);
+                        for (ClassInfo result : scanResult.getAllClasses()) {
+                            builder.putClassInfo(MappingUtils.getMappedPath(result.getName()), result);
                         }
+                        CLASS_INDEX = builder.build();
+                    } catch (Throwable ex) {
+                        UniCore.LOG.debugError(ex);
+                    } finally {
+                        ARE_CLASSES_LOADING = false;
                     }
                 }
+                index = CLASS_INDEX;
+            }
+        }
 
-                if (hasMatch) {
-                    try {
-                        results.put(classPath, classInfo.getValue());
-                    } catch (Throwable ignored) {
+        final Map<String, ClassInfo> results = StringUtils.newHashMap();
+        for (String className : classNames) {
+            final ClassInfo result = index.getClassInfo().get(className);
+            if (result != null) {
+                results.put(className, result);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Perform a full class scan, if one has not already been performed
+     */
+    private static void detectClassInfo() {
+        if (isClassGraphEnabled() && canScanClasses() && !hasScannedClasses()) {
+            synchronized (CLASS_LOCK) {
+                if (hasScannedClasses()) return;
+
+                ARE_CLASSES_LOADING = true;
+                try {
+                    scanClasses();
+                } finally {
+                    ARE_CLASSES_LOADING = false;
+                }
+                ARE_CLASSES_SCANNED = true;
+            }
+        }
+    }
+
+    /**
+     * Retrieve and Cache descriptors for all known classes within the Class Loader
+     * <p>
+     * Unlike {@link FileUtils#getClassMap()}, these results may be retrieved from the class scan cache
+     * without performing a full class scan
+     *
+     * @return an unmodifiable view of all known class descriptors
+     */
+    public static Map<String, ScannedClass> getScannedClassMap() {
+        detectClassNames();
+        return CLASS_INDEX.getClasses();
+    }
+
+    /**
+     * Retrieve class descriptors from the class scan cache or a full class scan, if not already done
+     */
+    private static void detectClassNames() {
+        if (isClassGraphEnabled() && canScanClasses() && !ARE_CLASS_NAMES_SCANNED) {
+            synchronized (CLASS_LOCK) {
+                if (ARE_CLASS_NAMES_SCANNED) return;
+
+                ARE_CLASSES_LOADING = true;
+                try {
+                    if (!loadCachedClasses()) {
+                        scanClasses();
+                        ARE_CLASSES_SCANNED = true;
                     }
+                } finally {
+                    ARE_CLASSES_LOADING = false;
                 }
             }
         }
-        return results;
+    }
+
+    /**
+     * Clear all detected classes
+     * <p>
+     * To pick up changes to the classpath without discarding unchanged classes, use {@link FileUtils#rescanClasses()}
+     *
+     * @param allowReScan Whether the next retrieval should perform a new scan
+     */
+    public static void clearClassMap(final boolean allowReScan) {
+        synchronized (CLASS_LOCK) {
+            if (allowReScan) {
+                ARE_CLASSES_SCANNED = false;
+                ARE_CLASS_NAMES_SCANNED = false;
+            }
+            CLASS_INDEX = ClassIndex.EMPTY;
+        }
+    }
+
+    public static void clearClassMap() {
+        clearClassMap(false);
+    }
+
+    /**
+     * Retrieve a list of all classes matching the specified lists of paths
+     *
+     * @param paths A nullable list of paths to be interpreted
+     * @return an unmodifiable view of the resulting list
+     */
+    public static Map<String, ClassInfo> getClasses(final String... paths) {
+        if (!isClassGraphEnabled()) return Collections.emptyMap();
+        if (paths == null || paths.length == 0) return getClassMap();
+
+        detectClassNames();
+        final ClassIndex index = CLASS_INDEX;
+        return Collections.unmodifiableMap(getClassInfo(index.filter(index.getClasses(), paths).keySet()));
+    }
+
+    /**
+     * Retrieve a list of all class descriptors matching the specified lists of paths
+     *
+     * @param paths A nullable list of paths to be interpreted
+     * @return an unmodifiable view of the resulting list
+     */
+    public static Map<String, ScannedClass> getScannedClasses(final String... paths) {
+        if (!isClassGraphEnabled()) return Collections.emptyMap();
+        detectClassNames();
+        final ClassIndex index = CLASS_INDEX;
+        return index.filter(index.getClasses(), paths);
     }
 
     /**
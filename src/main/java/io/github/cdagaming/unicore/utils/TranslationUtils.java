@@ -26,18 +26,32 @@ package io.github.cdagaming.unicore.utils;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
 import io.github.cdagaming.unicore.UniCore;
-
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import io.github.cdagaming.unicore.integrations.translation.PackedTranslationMap;
+import io.github.cdagaming.unicore.integrations.translation.ShardedTranslationMap;
+import io.github.cdagaming.unicore.integrations.translation.TranslationCache;
+import io.github.cdagaming.unicore.integrations.translation.TranslationDeprecations;
+import io.github.cdagaming.unicore.integrations.translation.TranslationKey;
+import io.github.cdagaming.unicore.integrations.translation.TranslationKeyRegistry;
+import io.github.cdagaming.unicore.integrations.translation.TranslationMetrics;
+import io.github.cdagaming.unicore.integrations.translation.TranslationShardIndex;
+import io.github.cdagaming.unicore.integrations.translation.TranslationTable;
+
+import java.io.*;
+import java.net.URL;
 import java.nio.charset.Charset;
-import java.util.List;
-import java.util.Map;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 
 /**
  * Translation and Localization Utilities based on Language Code
@@ -45,21 +59,37 @@ import java.util.regex.Pattern;
  * @author CDAGaming
  */
 public class TranslationUtils {
-    private static final Pattern JSON_PATTERN = Pattern.compile("(?s)\\\\(.)");
+    /**
+     * The time, in milliseconds, to wait for further file changes before reloading watched languages
+     */
+    private static final long WATCH_SETTLE_TIME = 100L;
+    /**
+     * The lock used when publishing a new snapshot to {@link TranslationUtils#requestMap}
+     */
+    private final Object requestLock = new Object();
     /**
      * The Stored Mapping of Language Request History
      * <p>
-     * Format: languageId:doesExist
+     * Format: languageId:translationTable
+     * <p>
+     * This map is never modified once published, and is instead replaced as a whole,
+     * allowing readers to access it without locking
+     */
+    private volatile Map<String, TranslationTable> requestMap = Collections.emptyMap();
+    /**
+     * The Stored Mapping of Language Loads that are currently in progress
+     * <p>
+     * Format: languageId:pendingTable
      */
-    private final Map<String, Map<String, String>> requestMap = StringUtils.newHashMap();
+    private final Map<String, CompletableFuture<TranslationTable>> pendingLoads = StringUtils.newConcurrentHashMap();
     /**
-     * The list of removed translations, if any
+     * The registry used to intern translation keys into index-based handles, shared across all instances
      */
-    private final List<String> removed = StringUtils.newArrayList();
+    private final TranslationKeyRegistry keyRegistry = TranslationKeyRegistry.SHARED;
     /**
-     * The list of renamed translations, if any
+     * The placeholder table used for languages that are still being loaded asynchronously
      */
-    private final Map<String, String> renamed = StringUtils.newHashMap();
+    private final TranslationTable pendingTable = new TranslationTable("");
     /**
      * The default/fallback Language ID to Locate and Retrieve Translations
      */
@@ -67,7 +97,7 @@ public class TranslationUtils {
     /**
      * The current Language ID to Locate and Retrieve Translations
      */
-    private String languageId = defaultLanguageId;
+    private volatile String languageId = defaultLanguageId;
     /**
      * The Target ID to locate the Language File
      */
@@ -112,14 +142,95 @@ public class TranslationUtils {
      * The event to trigger upon language sync, useful for external integrations
      */
     private Consumer<Map<String, String>> onLanguageSync = null;
+    /**
+     * Whether language files should be loaded asynchronously, rather than on the calling thread
+     */
+    private boolean asyncLoading = false;
+    /**
+     * The directory to store the translation cache in, or null to disable the translation cache
+     */
+    private File cacheDirectory = null;
+    /**
+     * The directory to supply Language Files from, if any
+     */
+    private File resourceDirectory = null;
+    /**
+     * Whether to watch {@link TranslationUtils#resourceDirectory} for changes, reloading only the modified languages
+     */
+    private boolean watchingResources = false;
+    /**
+     * The active watcher for {@link TranslationUtils#resourceDirectory}, if any
+     */
+    private WatchService resourceWatcher = null;
+    /**
+     * The maximum amount of languages to keep loaded at once, or 0 for no limit
+     * <p>
+     * The default and current languages are never evicted
+     */
+    private int maxLoadedLanguages = 0;
+    /**
+     * The current access generation, advanced each time translations are published
+     */
+    private volatile long accessGeneration = 0L;
+    /**
+     * The amount of minutes a language may go unused before being unloaded, or 0 for no limit
+     * <p>
+     * The default and current languages are never unloaded
+     */
+    private int languageExpiry = 0;
+    /**
+     * The access generations recorded once per minute while {@link TranslationUtils#languageExpiry} is set, oldest first
+     */
+    private final Deque<Long> expiryGenerations = new ArrayDeque<>();
+    /**
+     * The scheduled task unloading expired languages, if any
+     */
+    private ScheduledFuture<?> expiryTask = null;
+    /**
+     * Whether to store translations in a memory-compact form, trading lookup speed for heap usage
+     */
+    private boolean compactStorage = false;
+    /**
+     * The amount of key segments used to group translations into lazily parsed shards, or 0 to parse Language Files in full
+     */
+    private int shardDepth = 0;
+    /**
+     * The metrics recorded for this instance, or null if not enabled
+     */
+    private volatile TranslationMetrics metrics = null;
+    /**
+     * The executor to use when loading language files asynchronously, or null to use {@link UniCore#getThreadPool()}
+     */
+    private Executor loadingExecutor = null;
+    /**
+     * The executor to use when parsing multiple Language File streams in parallel, or null to use {@link ForkJoinPool#commonPool()}
+     */
+    private Executor parsingExecutor = null;
+    /**
+     * The language ID currently being switched to asynchronously, if any
+     */
+    private volatile String pendingLanguageId = null;
     /**
      * If this module needs a full sync
      */
-    private boolean needsSync;
+    private volatile boolean needsSync;
+    /**
+     * Whether language changes are pushed through {@link TranslationUtils#notifyLanguageChanged(String)},
+     * instead of polling {@link TranslationUtils#languageSupplier} each tick
+     */
+    private boolean usingLanguageNotifications = false;
+    /**
+     * The language ID most recently pushed through {@link TranslationUtils#notifyLanguageChanged(String)}
+     */
+    private volatile String notifiedLanguageId = null;
+    /**
+     * Whether a language change or sync is waiting to be handled, when using language notifications
+     */
+    private volatile boolean tickPending = false;
     /**
-     * If this module has checked for internal deprecations
+     * The compiled deprecation index for this module, or null if not yet loaded
      */
-    private boolean checkedDeprecations = false;
+    private volatile TranslationDeprecations deprecations = null;
 
     /**
      * Sets initial Data and Retrieves Valid Translations
@@ -171,24 +282,40 @@ public class TranslationUtils {
 
     /**
      * Attempt to retrieve the localized equivalent of the specified string
+     * <p>
+     * Each space-separated token is translated individually, if a translation is present
      *
      * @param original The string to interpret
      * @return The equivalent localized string, if present
      */
     public String getLocalizedMessage(final String original) {
-        String result = original.trim();
-        if (result.contains(" ")) {
-            String adjusted = result;
-            for (String dataPart : result.split(" ")) {
-                if (hasTranslation(dataPart)) {
-                    adjusted = adjusted.replace(dataPart, translate(dataPart));
+        final String result = original.trim();
+        final TranslationTable table = getTranslationTableFrom(languageId).getResolved();
+        final int length = result.length();
+
+        StringBuilder sb = null;
+        int tokenStart = 0;
+        while (tokenStart <= length) {
+            int tokenEnd = result.indexOf(' ', tokenStart);
+            if (tokenEnd < 0) {
+                tokenEnd = length;
+            }
+            final String translated = tokenEnd > tokenStart ? table.get(result.substring(tokenStart, tokenEnd), stripColors, stripFormatting) : null;
+            if (translated != null) {
+                if (sb == null) {
+                    sb = new StringBuilder(length + translated.length());
+                    sb.append(result, 0, tokenStart);
                 }
+                sb.append(translated);
+            } else if (sb != null) {
+                sb.append(result, tokenStart, tokenEnd);
+            }
+            if (sb != null && tokenEnd < length) {
+                sb.append(' ');
             }
-            result = adjusted;
-        } else if (hasTranslation(original)) {
-            result = translate(result);
+            tokenStart = tokenEnd + 1;
         }
-        return result;
+        return sb != null ? sb.toString() : result;
     }
 
     /**
@@ -197,33 +324,301 @@ public class TranslationUtils {
      * @return the current instance, used for chain-building
      */
     public TranslationUtils build() {
+        // Compile deprecations up-front, so that they can be applied while parsing
+        if (checkDeprecations) {
+            loadDeprecations(encoding);
+        }
+
         // Retrieve localized default translations
-        syncTranslations(getDefaultLanguage());
+        if (asyncLoading) {
+            setLanguage(getDefaultLanguage());
+            preloadLanguages(getDefaultLanguage());
+        } else {
+            syncTranslations(getDefaultLanguage());
+        }
 
         needsSync = true;
+        tickPending = true;
+        if (watchingResources) {
+            startWatchingResources();
+        }
         return this;
     }
 
+    /**
+     * Begin watching {@link TranslationUtils#resourceDirectory} for changes, if not already doing so
+     * <p>
+     * Modified Language Files are re-parsed on a background thread, and only their changed keys are published
+     */
+    private synchronized void startWatchingResources() {
+        if (resourceWatcher != null || resourceDirectory == null) return;
+
+        final File langDirectory = new File(resourceDirectory, "lang");
+        try {
+            final WatchService watcher = FileSystems.getDefault().newWatchService();
+            langDirectory.toPath().register(watcher,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE
+            );
+            resourceWatcher = watcher;
+            UniCore.getThreadFactory().newThread(() -> watchResources(watcher)).start();
+        } catch (Exception ex) {
+            UniCore.LOG.error("Unable to watch Language Files @ " + langDirectory.getAbsolutePath());
+            UniCore.LOG.debugError(ex);
+        }
+    }
+
+    /**
+     * Stop watching {@link TranslationUtils#resourceDirectory} for changes, if currently doing so
+     */
+    public synchronized void stopWatchingResources() {
+        if (resourceWatcher == null) return;
+
+        try {
+            resourceWatcher.close();
+        } catch (Exception ex) {
+            UniCore.LOG.debugError(ex);
+        }
+        resourceWatcher = null;
+    }
+
+    /**
+     * Wait for changes from the specified watcher, reloading the affected languages until the watcher is closed
+     *
+     * @param watcher The watcher to accept events from
+     */
+    private void watchResources(final WatchService watcher) {
+        try {
+            while (true) {
+                final Set<String> changed = StringUtils.newHashSet();
+                WatchKey key = watcher.take();
+                // Editors often save a file in several steps, so gather closely-following events together
+                while (key != null) {
+                    collectChanges(key, changed);
+                    key = watcher.poll(WATCH_SETTLE_TIME, TimeUnit.MILLISECONDS);
+                }
+                for (String languageId : changed) {
+                    // Keep watching if a file could not be reloaded, such as one caught mid-save
+                    try {
+                        reloadTranslations(languageId);
+                    } catch (Exception ex) {
+                        UniCore.LOG.error("Unable to reload translations for " + getModId() + " for " + languageId);
+                        UniCore.LOG.debugError(ex);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignored) {
+            // Watcher was closed, no further events to process
+        }
+    }
+
+    /**
+     * Collect the language IDs affected by the events of the specified watch key
+     *
+     * @param key     The watch key to interpret
+     * @param changed The set to store affected language IDs in
+     */
+    private void collectChanges(final WatchKey key, final Set<String> changed) {
+        final String ext = "." + getLanguageExtension();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changed.addAll(requestMap.keySet());
+            } else {
+                final String fileName = event.context().toString();
+                if (fileName.endsWith(ext)) {
+                    final String languageId = fileName.substring(0, fileName.length() - ext.length());
+                    changed.add(usingJson ? languageId.toLowerCase() : languageId);
+                }
+            }
+        }
+        key.reset();
+    }
+
+    /**
+     * Reload the translation mappings for the specified language ID, publishing only the keys that have changed
+     * <p>
+     * Languages that have not yet been loaded are ignored, and the previous translations are kept if the
+     * Language Files are unable to be parsed. If any keys have changed, {@link TranslationUtils#onLanguageSync}
+     * is triggered with only those changes, with removed keys mapped to null
+     * <p>
+     * Languages read on demand, such as sharded languages, are reloaded in full with the same storage mode,
+     * as finding the changed keys would require parsing every shard. {@link TranslationUtils#onLanguageSync}
+     * is then triggered with the full translations, as with {@link TranslationUtils#syncTranslations(String, boolean)}
+     *
+     * @param languageId the language ID to interpret
+     */
+    public void reloadTranslations(final String languageId) {
+        final TranslationTable previous = requestMap.get(languageId);
+        if (previous == null) return;
+
+        if (previous.isLazy()) {
+            final TranslationTable result = loadTranslationsFrom(languageId, encoding, getLocaleStreamsFrom(languageId));
+            if (result == null) return;
+
+            publishTranslations(result);
+            if (onLanguageSync != null) {
+                onLanguageSync.accept(result.getTranslations());
+            }
+            return;
+        }
+
+        final Map<String, String> translationMap = readTranslationMap(languageId, encoding, getLocaleStreamsFrom(languageId));
+        if (translationMap == null) return;
+
+        final Map<String, String> changes = previous.getChangesFrom(translationMap);
+        if (changes.isEmpty()) return;
+
+        publishTranslations(previous.withChanges(changes, keyRegistry));
+        UniCore.LOG.debugInfo("Reloaded " + changes.size() + " translations for " + getModId() + " for " + languageId);
+        if (onLanguageSync != null) {
+            onLanguageSync.accept(changes);
+        }
+    }
+
     /**
      * The Event to Run on each Client Tick, if passed initialization events
      * <p>
      * Consists of Synchronizing Data, and Updating Translation Data as needed
      */
     public void onTick() {
-        final String currentLanguageId = getCurrentLanguage();
+        final String currentLanguageId;
+        if (usingLanguageNotifications) {
+            // Nothing has been pushed since the last tick, so there is nothing to do
+            if (!tickPending) return;
+            tickPending = false;
+            currentLanguageId = notifiedLanguageId;
+        } else {
+            currentLanguageId = getCurrentLanguage();
+        }
+        final TranslationTable currentTable = requestMap.get(currentLanguageId);
         final boolean hasLanguageChanged = (!languageId.equals(currentLanguageId) &&
-                (!hasTranslationsFrom(currentLanguageId) || !requestMap.get(currentLanguageId).isEmpty()));
+                (currentTable == null || !currentTable.isEmpty()));
         if (needsSync) {
             // Sync All if we need to (Normally for initialization or reload purposes)
-            final List<String> requestedKeys = StringUtils.newArrayList(requestMap.keySet());
-            for (String key : requestedKeys) {
-                syncTranslations(key, false);
+            if (asyncLoading) {
+                preloadLanguages(requestMap.keySet().toArray(new String[0]));
+            } else {
+                for (String key : requestMap.keySet()) {
+                    syncTranslations(key, false);
+                }
             }
             needsSync = false;
+            if (hasLanguageChanged && usingLanguageNotifications) {
+                // Polling would pick this change up on the next tick, so do the same here
+                tickPending = true;
+            }
         } else if (hasLanguageChanged) {
             // Otherwise, only sync the current language if needed
-            syncTranslations(currentLanguageId);
+            if (asyncLoading) {
+                switchLanguageAsync(currentLanguageId);
+            } else {
+                syncTranslations(currentLanguageId);
+            }
+        }
+    }
+
+    /**
+     * Notify this instance that the current language has changed
+     * <p>
+     * Once called, {@link TranslationUtils#onTick()} no longer polls the language supplier,
+     * and returns immediately unless a language change or sync is pending
+     *
+     * @param languageId the new language ID
+     */
+    public void notifyLanguageChanged(final String languageId) {
+        notifiedLanguageId = usingJson ? languageId.toLowerCase() : languageId;
+        usingLanguageNotifications = true;
+        tickPending = true;
+    }
+
+    /**
+     * Switch to the specified language once its translations have been loaded in the background
+     * <p>
+     * The current language remains in use until loading completes
+     *
+     * @param languageId the language ID to interpret
+     */
+    private void switchLanguageAsync(final String languageId) {
+        if (languageId.equals(pendingLanguageId)) return;
+
+        pendingLanguageId = languageId;
+        preloadLanguages(languageId).whenComplete((result, ex) -> {
+            if (languageId.equals(pendingLanguageId)) {
+                switchLanguage(languageId);
+                pendingLanguageId = null;
+            }
+        });
+    }
+
+    /**
+     * Switch to the specified language without reloading it
+     * <p>
+     * If the language has no loaded translations, the default language is used instead
+     *
+     * @param languageId the language ID to interpret
+     */
+    public void switchLanguage(final String languageId) {
+        final String id = usingJson ? languageId.toLowerCase() : languageId;
+        final TranslationTable table = requestMap.get(id);
+        setLanguage(table != null && !table.isEmpty() ? id : defaultLanguageId);
+    }
+
+    /**
+     * Load the translation mappings for the specified language IDs in the background
+     * <p>
+     * Once all languages have finished loading, their translations are published together,
+     * and {@link TranslationUtils#onLanguageSync} is triggered on the executor's thread for each language
+     *
+     * @param executor    the executor to load language files on
+     * @param languageIds the language IDs to interpret
+     * @return a future completing once all languages have been published
+     */
+    public CompletableFuture<Void> preloadLanguages(final Executor executor, final String... languageIds) {
+        final List<CompletableFuture<TranslationTable>> tasks = StringUtils.newArrayList();
+        for (String id : languageIds) {
+            tasks.add(loadTranslationsAsync(usingJson ? id.toLowerCase() : id, executor));
         }
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).thenRun(() -> {
+            final List<TranslationTable> results = StringUtils.newArrayList();
+            for (CompletableFuture<TranslationTable> task : tasks) {
+                results.add(task.join());
+            }
+            publishTranslations(results);
+            if (onLanguageSync != null) {
+                for (TranslationTable table : results) {
+                    onLanguageSync.accept(table.getTranslations());
+                }
+            }
+        });
+    }
+
+    /**
+     * Load the translation mappings for the specified language IDs in the background
+     *
+     * @param languageIds the language IDs to interpret
+     * @return a future completing once all languages have been published
+     */
+    public CompletableFuture<Void> preloadLanguages(final String... languageIds) {
+        return preloadLanguages(getLoadingExecutor(), languageIds);
+    }
+
+    /**
+     * Load the translation table for the specified language in the background, without publishing it
+     * <p>
+     * Concurrent requests for the same language share a single load
+     *
+     * @param languageId the language ID to interpret
+     * @param executor   the executor to load language files on
+     * @return a future completing with the loaded translation table
+     */
+    private CompletableFuture<TranslationTable> loadTranslationsAsync(final String languageId, final Executor executor) {
+        final CompletableFuture<TranslationTable> future = pendingLoads.computeIfAbsent(languageId, id -> CompletableFuture.supplyAsync(() -> {
+            final TranslationTable result = loadTranslationsFrom(id, encoding, getLocaleStreamsFrom(id));
+            return result != null ? result : new TranslationTable(id);
+        }, executor));
+        future.whenComplete((result, ex) -> pendingLoads.remove(languageId, future));
+        return future;
     }
 
     /**
@@ -236,9 +631,9 @@ public class TranslationUtils {
         if (setLanguage) {
             setLanguage(languageId);
         }
-        final Map<String, String> results = getTranslationMapFrom(languageId, encoding);
+        final TranslationTable results = getTranslationMapFrom(languageId, encoding);
         if (onLanguageSync != null) {
-            onLanguageSync.accept(results);
+            onLanguageSync.accept(results.getTranslations());
         }
     }
 
@@ -256,6 +651,7 @@ public class TranslationUtils {
      */
     public void syncTranslations() {
         needsSync = true;
+        tickPending = true;
     }
 
     /**
@@ -285,6 +681,10 @@ public class TranslationUtils {
      */
     public TranslationUtils setDefaultLanguage(final String languageId) {
         this.defaultLanguageId = languageId;
+        if (!requestMap.isEmpty()) {
+            // Rebuild the resolved view of each table against the new default language
+            publishTranslations(Collections.emptyList());
+        }
         return this;
     }
 
@@ -366,113 +766,366 @@ public class TranslationUtils {
     }
 
     /**
-     * Sets the event to trigger upon language sync
+     * Sets the maximum amount of languages to keep loaded at once
+     * <p>
+     * Once exceeded, the least recently used languages are unloaded, and will be loaded again if requested.
+     * The default and current languages are never unloaded
      *
-     * @param onLanguageSync the event to trigger
+     * @param maxLoadedLanguages the new maximum, or 0 for no limit
      * @return the current instance, used for chain-building
      */
-    public TranslationUtils setOnLanguageSync(final Consumer<Map<String, String>> onLanguageSync) {
-        this.onLanguageSync = onLanguageSync;
+    public TranslationUtils setMaxLoadedLanguages(final int maxLoadedLanguages) {
+        this.maxLoadedLanguages = Math.max(0, maxLoadedLanguages);
         return this;
     }
 
     /**
-     * Toggles whether to use .Lang or .Json Language Files
+     * Sets the amount of minutes a language may go unused before being unloaded
+     * <p>
+     * Unloaded languages will be loaded again if requested. The default and current languages are never unloaded
      *
-     * @param usingJson Toggles whether to use .Json or .Lang, if present
-     * @return the current instance, for chain-building
+     * @param languageExpiry the new expiry in minutes, or 0 for no limit
+     * @return the current instance, used for chain-building
      */
-    public TranslationUtils setUsingJson(final boolean usingJson) {
-        this.usingJson = usingJson;
+    public synchronized TranslationUtils setLanguageExpiry(final int languageExpiry) {
+        this.languageExpiry = Math.max(0, languageExpiry);
+        if (expiryTask != null) {
+            expiryTask.cancel(false);
+            expiryTask = null;
+        }
+        synchronized (requestLock) {
+            expiryGenerations.clear();
+        }
+        if (this.languageExpiry > 0) {
+            expiryTask = UniCore.getThreadPool().scheduleAtFixedRate(this::expireLanguages, 1L, 1L, TimeUnit.MINUTES);
+        }
         return this;
     }
 
     /**
-     * Toggles whether this module should check for deprecated data
+     * Sets whether to record metrics for this instance
+     * <p>
+     * Once enabled, metrics are readable via {@link TranslationUtils#getMetrics()},
+     * and through JMX under the {@code io.github.cdagaming.unicore:type=TranslationMetrics} name
      *
-     * @param checkDeprecations Toggles whether this module should check for deprecated data
-     * @return the current instance, for chain-building
+     * @param metricsEnabled the new "metricsEnabled" state
+     * @return the current instance, used for chain-building
      */
-    public TranslationUtils setCheckDeprecations(final boolean checkDeprecations) {
-        this.checkDeprecations = checkDeprecations;
+    public synchronized TranslationUtils setMetricsEnabled(final boolean metricsEnabled) {
+        if (metricsEnabled && metrics == null) {
+            final TranslationMetrics result = new TranslationMetrics(getModId());
+            result.register();
+            metrics = result;
+        } else if (!metricsEnabled && metrics != null) {
+            metrics.unregister();
+            metrics = null;
+        }
         return this;
     }
 
     /**
-     * Sets the Language ID to Retrieve Translations for, if present
+     * Retrieve the metrics recorded for this instance
      *
-     * @param languageId The Language ID (Default: en_US)
-     * @return the current instance, for chain-building
+     * @return the metrics for this instance, or null if not enabled
      */
-    public TranslationUtils setLanguage(final String languageId) {
-        final String result = StringUtils.getOrDefault(languageId, defaultLanguageId);
-        this.languageId = usingJson ? result.toLowerCase() : result;
+    public TranslationMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets whether to store translations in a memory-compact form
+     * <p>
+     * Compact tables share key strings across all instances, and store values in a single character arena,
+     * materializing each value once on first lookup for a substantially smaller heap footprint.
+     * Takes effect for languages loaded after this is set
+     *
+     * @param compactStorage the new "compactStorage" state
+     * @return the current instance, used for chain-building
+     * @see PackedTranslationMap
+     */
+    public TranslationUtils setCompactStorage(final boolean compactStorage) {
+        this.compactStorage = compactStorage;
         return this;
     }
 
     /**
-     * Sets the Charset Encoding to parse Translations in, if present
+     * Sets the amount of key segments used to group translations into lazily parsed shards
+     * <p>
+     * When enabled, Language Files are indexed by key prefix as they are loaded, and each shard is only parsed
+     * once a key within it is first requested. The raw contents of the Language Files are moved to a temporary file
+     * once indexed, and parsed shards may be reclaimed under memory pressure, to be read back from that file if requested again.
+     * With a depth of 2, {@code gui.config.title} is parsed alongside all other {@code gui.config} keys.
+     * Sharded languages do not use the translation cache
      *
-     * @param encoding The Charset Encoding (Default: UTF-8)
-     * @return the current instance, for chain-building
+     * @param shardDepth the new shard depth, or 0 to parse Language Files in full
+     * @return the current instance, used for chain-building
+     * @see TranslationShardIndex
      */
-    public TranslationUtils setEncoding(final String encoding) {
-        this.encoding = StringUtils.getOrDefault(encoding, "UTF-8");
+    public TranslationUtils setShardDepth(final int shardDepth) {
+        this.shardDepth = Math.max(0, shardDepth);
         return this;
     }
 
     /**
-     * Gets the Mod ID to target when locating Language Files
+     * Retrieve the language ID matching the specified locale, such as {@code en_us} for {@link Locale#US}
      *
-     * @return The Mod ID to target
+     * @param locale The locale to interpret
+     * @return the matching language ID
      */
-    public String getModId() {
-        return modId;
+    public String getLanguageId(final Locale locale) {
+        final String country = locale.getCountry();
+        final String result = country.isEmpty() ? locale.getLanguage() : locale.getLanguage() + "_" + country;
+        return usingJson ? result.toLowerCase() : result;
     }
 
     /**
-     * Sets the Mod ID to target when locating Language Files
+     * Sets the directory to supply Language Files from
+     * <p>
+     * Language Files are read from the {@code lang} sub-directory, such as {@code <directory>/lang/en_us.json}
      *
-     * @param modId The Mod ID to target
-     * @return the current instance, for chain-building
+     * @param resourceDirectory the new resource directory
+     * @return the current instance, used for chain-building
      */
-    public TranslationUtils setModId(final String modId) {
-        this.modId = StringUtils.getOrDefault(modId);
+    public TranslationUtils setResourceDirectory(final File resourceDirectory) {
+        this.resourceDirectory = resourceDirectory;
+        this.resourceSupplier = (instance, langPath) -> {
+            final List<InputStream> results = StringUtils.newArrayList();
+            final File langFile = new File(resourceDirectory, langPath);
+            if (langFile.isFile()) {
+                try {
+                    results.add(new FileInputStream(langFile));
+                } catch (Exception ex) {
+                    UniCore.LOG.debugError(ex);
+                }
+            }
+            return results;
+        };
         return this;
     }
 
     /**
-     * Retrieve the active assets path
+     * Sets whether to watch the resource directory for changes, reloading only the modified languages
+     * <p>
+     * Requires a resource directory to be set via {@link TranslationUtils#setResourceDirectory(File)},
+     * and takes effect once this instance is built
      *
-     * @return the active assets path
+     * @param watchingResources the new "watchingResources" state
+     * @return the current instance, used for chain-building
+     * @see TranslationUtils#reloadTranslations(String)
      */
-    public String getAssetsPath() {
-        return usingAssetsPath ? String.format("/assets/%s/", getModId()) : "/";
+    public TranslationUtils setWatchingResources(final boolean watchingResources) {
+        this.watchingResources = watchingResources;
+        if (!watchingResources) {
+            stopWatchingResources();
+        }
+        return this;
     }
 
     /**
-     * Retrieve the active deprecations path
+     * Sets the event to trigger upon language sync
      *
-     * @return the active deprecations path
+     * @param onLanguageSync the event to trigger
+     * @return the current instance, used for chain-building
      */
-    public String getDeprecatedPath() {
-        return getAssetsPath() + "lang/deprecated.json";
+    public TranslationUtils setOnLanguageSync(final Consumer<Map<String, String>> onLanguageSync) {
+        this.onLanguageSync = onLanguageSync;
+        return this;
     }
 
     /**
-     * Apply Translation Deprecations to a given translation map
+     * Toggles whether language files should be loaded asynchronously, rather than on the calling thread
+     * <p>
+     * When enabled, language switches keep the current language in use until the new one has loaded,
+     * and lookups against a language that is not yet loaded will not find any translations until it has been loaded
      *
-     * @param map      The translations map to process
-     * @param encoding The Charset Encoding (Default: UTF-8)
+     * @param asyncLoading the new "Async Loading" status
+     * @return the current instance, used for chain-building
      */
-    public void applyDeprecations(final Map<String, String> map, final String encoding) {
-        if (!checkDeprecations) return;
+    public TranslationUtils setAsyncLoading(final boolean asyncLoading) {
+        this.asyncLoading = asyncLoading;
+        return this;
+    }
 
-        if (!checkedDeprecations) {
-            final InputStream local = FileUtils.getResourceAsStream(TranslationUtils.class, getDeprecatedPath());
-            if (local != null) {
-                try (InputStreamReader reader = new InputStreamReader(local, Charset.forName(encoding))) {
-                    final JsonElement element = FileUtils.parseJson(reader);
+    /**
+     * Sets the directory to store the translation cache in
+     * <p>
+     * When set, parsed language files are stored in a binary format keyed by a hash of their sources,
+     * allowing unchanged languages to be loaded without parsing them again. Local Language Files are
+     * compared by size and modification time, while supplied streams are compared by their contents
+     *
+     * @param cacheDirectory the new cache directory, or null to disable the translation cache
+     * @return the current instance, used for chain-building
+     */
+    public TranslationUtils setCacheDirectory(final File cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+        return this;
+    }
+
+    /**
+     * Retrieve the executor to use when loading language files asynchronously
+     *
+     * @return the executor to load language files on
+     */
+    public Executor getLoadingExecutor() {
+        return loadingExecutor != null ? loadingExecutor : UniCore.getThreadPool();
+    }
+
+    /**
+     * Sets the executor to use when loading language files asynchronously
+     *
+     * @param loadingExecutor the new executor, or null to use {@link UniCore#getThreadPool()}
+     * @return the current instance, used for chain-building
+     */
+    public TranslationUtils setLoadingExecutor(final Executor loadingExecutor) {
+        this.loadingExecutor = loadingExecutor;
+        return this;
+    }
+
+    /**
+     * Retrieve the executor to use when parsing multiple Language File streams in parallel
+     *
+     * @return the executor to parse language files on
+     */
+    public Executor getParsingExecutor() {
+        return parsingExecutor != null ? parsingExecutor : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Sets the executor to use when parsing multiple Language File streams in parallel
+     * <p>
+     * This should not be the same single-threaded executor used for {@link TranslationUtils#getLoadingExecutor()},
+     * as loads wait for their parsing tasks to complete
+     *
+     * @param parsingExecutor the new executor, or null to use {@link ForkJoinPool#commonPool()}
+     * @return the current instance, used for chain-building
+     */
+    public TranslationUtils setParsingExecutor(final Executor parsingExecutor) {
+        this.parsingExecutor = parsingExecutor;
+        return this;
+    }
+
+    /**
+     * Toggles whether to use .Lang or .Json Language Files
+     *
+     * @param usingJson Toggles whether to use .Json or .Lang, if present
+     * @return the current instance, for chain-building
+     */
+    public TranslationUtils setUsingJson(final boolean usingJson) {
+        this.usingJson = usingJson;
+        return this;
+    }
+
+    /**
+     * Toggles whether this module should check for deprecated data
+     *
+     * @param checkDeprecations Toggles whether this module should check for deprecated data
+     * @return the current instance, for chain-building
+     */
+    public TranslationUtils setCheckDeprecations(final boolean checkDeprecations) {
+        this.checkDeprecations = checkDeprecations;
+        return this;
+    }
+
+    /**
+     * Sets the Language ID to Retrieve Translations for, if present
+     *
+     * @param languageId The Language ID (Default: en_US)
+     * @return the current instance, for chain-building
+     */
+    public TranslationUtils setLanguage(final String languageId) {
+        final String result = StringUtils.getOrDefault(languageId, defaultLanguageId);
+        this.languageId = usingJson ? result.toLowerCase() : result;
+        return this;
+    }
+
+    /**
+     * Sets the Charset Encoding to parse Translations in, if present
+     *
+     * @param encoding The Charset Encoding (Default: UTF-8)
+     * @return the current instance, for chain-building
+     */
+    public TranslationUtils setEncoding(final String encoding) {
+        this.encoding = StringUtils.getOrDefault(encoding, "UTF-8");
+        return this;
+    }
+
+    /**
+     * Gets the Mod ID to target when locating Language Files
+     *
+     * @return The Mod ID to target
+     */
+    public String getModId() {
+        return modId;
+    }
+
+    /**
+     * Sets the Mod ID to target when locating Language Files
+     *
+     * @param modId The Mod ID to target
+     * @return the current instance, for chain-building
+     */
+    public TranslationUtils setModId(final String modId) {
+        this.modId = StringUtils.getOrDefault(modId);
+        return this;
+    }
+
+    /**
+     * Retrieve the active assets path
+     *
+     * @return the active assets path
+     */
+    public String getAssetsPath() {
+        return usingAssetsPath ? String.format("/assets/%s/", getModId()) : "/";
+    }
+
+    /**
+     * Retrieve the active deprecations path
+     *
+     * @return the active deprecations path
+     */
+    public String getDeprecatedPath() {
+        return getAssetsPath() + "lang/deprecated.json";
+    }
+
+    /**
+     * Apply Translation Deprecations to a given translation map
+     *
+     * @param map      The translations map to process
+     * @param encoding The Charset Encoding (Default: UTF-8)
+     */
+    public void applyDeprecations(final Map<String, String> map, final String encoding) {
+        final TranslationDeprecations index = getDeprecations(encoding);
+        index.apply(map);
+        index.reportMissingKeys(map);
+    }
+
+    /**
+     * Retrieve the deprecations to apply while parsing translations for this module
+     *
+     * @param encoding The Charset Encoding (Default: UTF-8)
+     * @return the compiled deprecation index, or an empty index if not checking for deprecations
+     */
+    private TranslationDeprecations getDeprecations(final String encoding) {
+        if (!checkDeprecations) return TranslationDeprecations.EMPTY;
+
+        final TranslationDeprecations index = deprecations;
+        return index != null ? index : loadDeprecations(encoding);
+    }
+
+    /**
+     * Retrieve and compile the deprecated translation data for this module, if not already done
+     *
+     * @param encoding The Charset Encoding (Default: UTF-8)
+     * @return the compiled deprecation index
+     */
+    private synchronized TranslationDeprecations loadDeprecations(final String encoding) {
+        if (deprecations == null) {
+            final List<String> removed = StringUtils.newArrayList();
+            final Map<String, String> renamed = StringUtils.newHashMap();
+            final InputStream local = FileUtils.getResourceAsStream(TranslationUtils.class, getDeprecatedPath());
+            if (local != null) {
+                try (InputStreamReader reader = new InputStreamReader(local, Charset.forName(encoding))) {
+                    final JsonElement element = FileUtils.parseJson(reader);
                     if (element != null && element.isJsonObject()) {
                         final JsonObject obj = element.getAsJsonObject();
 
@@ -492,22 +1145,11 @@ public class TranslationUtils {
                     renamed.clear();
                 }
             }
-            checkedDeprecations = true;
+            deprecations = removed.isEmpty() && renamed.isEmpty() ?
+                    TranslationDeprecations.EMPTY :
+                    new TranslationDeprecations(removed, renamed);
         }
-
-        for (String data : removed) {
-            map.remove(data);
-        }
-
-        renamed.forEach((oldKey, newKey) -> {
-            final String oldValue = map.remove(oldKey);
-            if (oldValue == null) {
-                UniCore.LOG.warn("Missing translation key for rename: " + oldKey);
-                map.remove(newKey);
-            } else {
-                map.put(newKey, oldValue);
-            }
-        });
+        return deprecations;
     }
 
     /**
@@ -537,7 +1179,26 @@ public class TranslationUtils {
      * @return the interpreted list of valid {@link InputStream}'s
      */
     private List<InputStream> getLocaleStreamsFrom(final String languageId) {
-        return getLocaleStreamsFrom(languageId, (usingJson ? "json" : "lang"));
+        return getLocaleStreamsFrom(languageId, getLanguageExtension());
+    }
+
+    /**
+     * Retrieve the file extension used for Language Files
+     *
+     * @return the file extension used for Language Files
+     */
+    private String getLanguageExtension() {
+        return usingJson ? "json" : "lang";
+    }
+
+    /**
+     * Retrieve the translation cache file for the specified language
+     *
+     * @param languageId The language ID to interpret
+     * @return the translation cache file for this language
+     */
+    private File getCacheFile(final String languageId) {
+        return new File(cacheDirectory, String.format("%s/%s.%s.bin", getModId(), languageId, getLanguageExtension()));
     }
 
     /**
@@ -567,69 +1228,524 @@ public class TranslationUtils {
      * @param data       The {@link InputStream}'s to accept data from
      * @return the processed list of translations
      */
-    private Map<String, String> getTranslationMapFrom(final String languageId, final String encoding, final List<InputStream> data) {
-        boolean hasError = false, hadBefore = hasTranslationsFrom(languageId);
-        requestMap.remove(languageId);
-        final Map<String, String> translationMap = StringUtils.newHashMap();
+    private TranslationTable getTranslationMapFrom(final String languageId, final String encoding, final List<InputStream> data) {
+        TranslationTable result = loadTranslationsFrom(languageId, encoding, data);
+        if (result == null) {
+            result = new TranslationTable(languageId);
+            publishTranslations(result);
+            if (languageId.equals(this.languageId)) {
+                setLanguage(defaultLanguageId);
+            }
+        } else {
+            publishTranslations(result);
+        }
+        return result;
+    }
 
-        if (data != null && !data.isEmpty()) {
-            for (InputStream in : data) {
-                if (in != null) {
-                    try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, Charset.forName(encoding)))) {
-                        String currentString;
-                        while ((currentString = reader.readLine()) != null) {
-                            currentString = currentString.trim();
-                            if (!currentString.startsWith("#") && !currentString.startsWith("[{}]") && (usingJson ? currentString.contains(":") : currentString.contains("="))) {
-                                final String[] splitTranslation = usingJson ? currentString.split(":", 2) : currentString.split("=", 2);
-                                if (usingJson) {
-                                    String str1 = splitTranslation[0].substring(1, splitTranslation[0].length() - 1).trim();
-                                    String str2 = splitTranslation[1].substring(2, splitTranslation[1].length() - (splitTranslation[1].endsWith(",") ? 2 : 1)).trim();
-                                    translationMap.put(
-                                            StringUtils.replaceMatches(JSON_PATTERN, str1, "$1"),
-                                            StringUtils.replaceMatches(JSON_PATTERN, str2, "$1")
-                                    );
-                                } else {
-                                    translationMap.put(splitTranslation[0].trim(), splitTranslation[1].trim());
-                                }
-                            }
-                        }
+    /**
+     * Retrieves a List of Translations from a Language File, without publishing them
+     *
+     * @param languageId The language ID to interpret
+     * @param encoding   The Charset Encoding (Default: UTF-8)
+     * @param data       The {@link InputStream}'s to accept data from
+     * @return the processed list of translations, or null if unable to load them
+     */
+    private TranslationTable loadTranslationsFrom(final String languageId, final String encoding, final List<InputStream> data) {
+        final boolean hadBefore = hasTranslationsFrom(languageId);
+        final TranslationTable result;
+        if (shardDepth > 0) {
+            result = loadShardedTranslations(languageId, encoding, data);
+        } else {
+            final Map<String, String> translationMap = readTranslationMap(languageId, encoding, data);
+            result = translationMap != null ? new TranslationTable(languageId, translationMap, keyRegistry, compactStorage) : null;
+        }
+        if (result == null) return null;
 
-                        in.close();
-                    } catch (Exception ex) {
-                        UniCore.LOG.error("An exception has occurred while loading Translation Mappings, aborting scan to prevent issues...");
-                        UniCore.LOG.debugError(ex);
-                        hasError = true;
-                        break;
-                    }
-                } else {
-                    hasError = true;
-                    break;
+        UniCore.LOG.debugInfo((hadBefore ? "Refreshed" : "Added") + " translations for " + getModId() + " for " + languageId);
+        return result;
+    }
+
+    /**
+     * Retrieves a List of Translations from a Language File, parsing each shard on first access
+     * <p>
+     * If the Language Files are unable to be indexed, they are parsed in full instead
+     *
+     * @param languageId The language ID to interpret
+     * @param encoding   The Charset Encoding (Default: UTF-8)
+     * @param data       The {@link InputStream}'s to accept data from
+     * @return the processed list of translations, or null if unable to load them
+     */
+    private TranslationTable loadShardedTranslations(final String languageId, final String encoding, final List<InputStream> data) {
+        final long startTime = System.nanoTime();
+        final List<byte[]> contents = data != null ? TranslationCache.readContents(data) : null;
+        if (contents != null) {
+            final TranslationShardIndex index = TranslationShardIndex.build(contents, Charset.forName(encoding), usingJson, shardDepth);
+            if (index != null) {
+                storeShardContents(languageId, index);
+                final TranslationDeprecations deprecations = getDeprecations(encoding);
+                final ShardedTranslationMap translations = new ShardedTranslationMap(index, shardData -> {
+                    final Map<String, String> result = readTranslations(encoding, deprecations, new ByteArrayInputStream(shardData));
+                    return result != null ? result : StringUtils.newHashMap();
+                }, deprecations);
+
+                final TranslationMetrics metrics = this.metrics;
+                if (metrics != null) {
+                    metrics.recordLoad(languageId, System.nanoTime() - startTime);
                 }
+                return new TranslationTable(languageId, translations);
+            }
+            UniCore.LOG.debugInfo("Unable to index translations for " + getModId() + " for " + languageId + ", loading them in full");
+        }
+
+        final List<InputStream> streams = StringUtils.newArrayList();
+        if (contents != null) {
+            for (byte[] content : contents) {
+                streams.add(new ByteArrayInputStream(content));
             }
-        } else {
-            hasError = true;
         }
+        final Map<String, String> translationMap = readTranslationMap(languageId, encoding, streams);
+        return translationMap != null ? new TranslationTable(languageId, translationMap, keyRegistry, compactStorage) : null;
+    }
 
-        if (hasError) {
+    /**
+     * Move the raw contents of the specified index to a temporary file, so that they are not retained in memory
+     * <p>
+     * If unable to do so, the raw contents remain in memory instead
+     *
+     * @param languageId The language ID to interpret
+     * @param index      The index to interpret
+     */
+    private void storeShardContents(final String languageId, final TranslationShardIndex index) {
+        try {
+            final File file = File.createTempFile(getModId() + "_" + languageId + "_", ".tmp");
+            file.deleteOnExit();
+            if (!index.moveContentsTo(file)) {
+                file.delete();
+            }
+        } catch (Exception ex) {
+            UniCore.LOG.debugError("Unable to store translation contents for " + getModId() + " for " + languageId + ", retaining them in memory");
+            UniCore.LOG.debugError(ex);
+        }
+    }
+
+    /**
+     * Retrieves a List of Translations from a Language File, with deprecations applied while parsing
+     *
+     * @param languageId The language ID to interpret
+     * @param encoding   The Charset Encoding (Default: UTF-8)
+     * @param data       The {@link InputStream}'s to accept data from
+     * @return the processed list of translations, or null if unable to load them
+     */
+    private Map<String, String> readTranslationMap(final String languageId, final String encoding, final List<InputStream> data) {
+        final long startTime = System.nanoTime();
+        final TranslationDeprecations deprecations = getDeprecations(encoding);
+        final Map<String, String> translationMap = cacheDirectory != null ?
+                readCachedTranslations(languageId, encoding, deprecations, data) :
+                readTranslations(encoding, deprecations, data);
+
+        if (translationMap == null) {
             UniCore.LOG.error("Translations for " + getModId() + " do not exist for " + languageId);
-            translationMap.clear();
-            requestMap.put(languageId, translationMap);
-            setLanguage(defaultLanguageId);
+            return null;
+        }
+        deprecations.reportMissingKeys(translationMap);
+        final TranslationMetrics metrics = this.metrics;
+        if (metrics != null) {
+            metrics.recordLoad(languageId, System.nanoTime() - startTime);
+        }
+        return translationMap;
+    }
+
+    /**
+     * Retrieves a List of Translations from a Language File, using the translation cache where possible
+     * <p>
+     * If the source data has not changed since the cache was written, the cached data is used without parsing,
+     * otherwise the source data is parsed and the cache is updated. When every stream is a local resource
+     * with file metadata, changes are detected from that metadata, and a cache hit never reads the streams
+     *
+     * @param languageId   The language ID to interpret
+     * @param encoding     The Charset Encoding (Default: UTF-8)
+     * @param deprecations The deprecations to apply while parsing
+     * @param data         The {@link InputStream}'s to accept data from
+     * @return the processed list of translations, or null if unable to load them
+     */
+    private Map<String, String> readCachedTranslations(final String languageId, final String encoding, final TranslationDeprecations deprecations, final List<InputStream> data) {
+        if (data == null || data.isEmpty()) return null;
+
+        final File cacheFile = getCacheFile(languageId);
+        final String[] extras = {encoding, getLanguageExtension(), deprecations.getFingerprint()};
+        final byte[] sourceHash = getSourceHash(languageId, data, extras);
+        if (sourceHash != null) {
+            final Map<String, String> cached = TranslationCache.read(cacheFile, sourceHash);
+            if (cached != null) {
+                TranslationCache.closeAll(data);
+                return cached;
+            }
+        }
+
+        final List<byte[]> contents = TranslationCache.readContents(data);
+        if (contents == null) return null;
+
+        final byte[] contentHash = sourceHash != null ? sourceHash : TranslationCache.getContentHash(contents, extras);
+        if (sourceHash == null) {
+            final Map<String, String> cached = TranslationCache.read(cacheFile, contentHash);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        final List<InputStream> streams = StringUtils.newArrayList();
+        for (byte[] content : contents) {
+            streams.add(new ByteArrayInputStream(content));
+        }
+        final Map<String, String> results = readTranslations(encoding, deprecations, streams);
+        if (results != null) {
+            TranslationCache.write(cacheFile, contentHash, results);
+        }
+        return results;
+    }
+
+    /**
+     * Compute the translation cache key for the specified language from the metadata of its Language Files
+     * <p>
+     * This is only possible when every stream is the local resource for this language, as streams from
+     * {@link TranslationUtils#resourceSupplier} carry no metadata to compare against
+     *
+     * @param languageId The language ID to interpret
+     * @param data       The {@link InputStream}'s retrieved for this language
+     * @param extras     Additional parsing options that affect the resulting data
+     * @return the resulting source hash, or null if the streams must be hashed by their contents
+     */
+    private byte[] getSourceHash(final String languageId, final List<InputStream> data, final String... extras) {
+        final URL local = FileUtils.getResource(TranslationUtils.class, getAssetsPath() + String.format("lang/%s.%s", languageId, getLanguageExtension()));
+        if (local == null || data.size() != 1) return null;
+
+        return TranslationCache.getSourceHash(Collections.singletonList(local), extras);
+    }
+
+    /**
+     * Retrieves a List of Translations from a Language File
+     * <p>
+     * Multiple streams are parsed in parallel, and merged in the order they were supplied,
+     * so that later streams override earlier ones. A stream that fails to parse is skipped
+     *
+     * @param encoding     The Charset Encoding (Default: UTF-8)
+     * @param deprecations The deprecations to apply while parsing
+     * @param data         The {@link InputStream}'s to accept data from
+     * @return the processed list of translations, or null if unable to load any of them
+     */
+    private Map<String, String> readTranslations(final String encoding, final TranslationDeprecations deprecations, final List<InputStream> data) {
+        if (data == null || data.isEmpty()) return null;
+
+        final List<Map<String, String>> results = StringUtils.newArrayList();
+        if (data.size() == 1) {
+            results.add(readTranslations(encoding, deprecations, data.get(0)));
         } else {
-            applyDeprecations(translationMap, encoding);
-            UniCore.LOG.debugInfo((hadBefore ? "Refreshed" : "Added") + " translations for " + getModId() + " for " + languageId);
-            requestMap.put(languageId, translationMap);
+            final Executor executor = getParsingExecutor();
+            final List<CompletableFuture<Map<String, String>>> tasks = StringUtils.newArrayList();
+            for (InputStream in : data) {
+                tasks.add(CompletableFuture.supplyAsync(() -> readTranslations(encoding, deprecations, in), executor));
+            }
+            for (CompletableFuture<Map<String, String>> task : tasks) {
+                results.add(task.join());
+            }
+        }
+
+        Map<String, String> translationMap = null;
+        for (Map<String, String> partial : results) {
+            if (partial != null) {
+                if (translationMap == null) {
+                    translationMap = partial;
+                } else {
+                    translationMap.putAll(partial);
+                }
+            }
         }
         return translationMap;
     }
 
+    /**
+     * Retrieves a List of Translations from a single Language File stream, closing it afterwards
+     *
+     * @param encoding     The Charset Encoding (Default: UTF-8)
+     * @param deprecations The deprecations to apply while parsing
+     * @param in           The {@link InputStream} to accept data from
+     * @return the processed list of translations, or null if unable to load them
+     */
+    private Map<String, String> readTranslations(final String encoding, final TranslationDeprecations deprecations, final InputStream in) {
+        if (in == null) {
+            UniCore.LOG.error("A Translation Mappings source for " + getModId() + " is missing, skipping it...");
+            return null;
+        }
+        final Map<String, String> translationMap = StringUtils.newHashMap();
+        final TranslationMetrics metrics = this.metrics;
+        final InputStream source = metrics != null ? metrics.countBytes(in) : in;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(source, Charset.forName(encoding)))) {
+            if (usingJson) {
+                readJsonTranslations(reader, translationMap, deprecations);
+            } else {
+                readLangTranslations(reader, translationMap, deprecations);
+            }
+            return translationMap;
+        } catch (Exception ex) {
+            UniCore.LOG.error("An exception has occurred while loading Translation Mappings for " + getModId() + ", skipping this source...");
+            UniCore.LOG.debugError(ex);
+            return null;
+        }
+    }
+
+    /**
+     * Reads translations from a .Json Language File, storing them in the specified map
+     * <p>
+     * The file is streamed in a single pass, supporting both minified and multi-line layouts.
+     * Non-primitive values are skipped.
+     *
+     * @param source         The reader to accept data from
+     * @param translationMap The map to store the resulting translations in
+     * @param deprecations   The deprecations to apply while parsing
+     * @throws IOException if the data is not a valid json object
+     */
+    private void readJsonTranslations(final Reader source, final Map<String, String> translationMap, final TranslationDeprecations deprecations) throws IOException {
+        final JsonReader reader = new JsonReader(source);
+        reader.setStrictness(Strictness.LENIENT);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String key = reader.nextName();
+            switch (reader.peek()) {
+                case STRING:
+                case NUMBER:
+                    deprecations.put(translationMap, key, reader.nextString());
+                    break;
+                case BOOLEAN:
+                    deprecations.put(translationMap, key, Boolean.toString(reader.nextBoolean()));
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+    }
+
+    /**
+     * Reads translations from a .Lang Language File, storing them in the specified map
+     *
+     * @param reader         The reader to accept data from
+     * @param translationMap The map to store the resulting translations in
+     * @param deprecations   The deprecations to apply while parsing
+     * @throws IOException if unable to read the data
+     */
+    private void readLangTranslations(final BufferedReader reader, final Map<String, String> translationMap, final TranslationDeprecations deprecations) throws IOException {
+        String currentString;
+        while ((currentString = reader.readLine()) != null) {
+            currentString = currentString.trim();
+            if (!currentString.startsWith("#") && !currentString.startsWith("[{}]")) {
+                final int splitIndex = currentString.indexOf('=');
+                if (splitIndex >= 0) {
+                    deprecations.put(translationMap, currentString.substring(0, splitIndex).trim(), currentString.substring(splitIndex + 1).trim());
+                }
+            }
+        }
+    }
+
+    /**
+     * Publish the specified translation table, replacing any previous table for its language
+     * <p>
+     * A new snapshot of {@link TranslationUtils#requestMap} is created and swapped in as a whole,
+     * so that readers never observe a partially loaded language
+     *
+     * @param table The translation table to publish
+     */
+    private void publishTranslations(final TranslationTable table) {
+        publishTranslations(Collections.singletonList(table));
+    }
+
+    /**
+     * Publish the specified translation tables together, replacing any previous tables for their languages
+     *
+     * @param tables The translation tables to publish
+     */
+    private void publishTranslations(final Collection<TranslationTable> tables) {
+        synchronized (requestLock) {
+            final long generation = ++accessGeneration;
+            final Map<String, TranslationTable> snapshot = StringUtils.newHashMap(requestMap);
+            for (TranslationTable table : tables) {
+                table.markAccessed(generation);
+                snapshot.put(table.getLanguageId(), table);
+            }
+            if (maxLoadedLanguages > 0) {
+                evictLanguages(snapshot, generation);
+            }
+
+            // Rebuild the resolved view of any table whose fallback is out of date
+            final String defaultId = getDefaultLanguage();
+            final TranslationTable defaultTable = snapshot.get(defaultId);
+            if (defaultTable != null && defaultTable.getFallback() != null) {
+                snapshot.put(defaultId, defaultTable.withFallback(null));
+            }
+            final TranslationTable fallback = snapshot.get(defaultId);
+            for (Map.Entry<String, TranslationTable> entry : snapshot.entrySet()) {
+                final TranslationTable table = entry.getValue();
+                if (!entry.getKey().equals(defaultId) && table.getFallback() != fallback) {
+                    entry.setValue(table.withFallback(fallback));
+                }
+            }
+            requestMap = Collections.unmodifiableMap(snapshot);
+        }
+    }
+
+    /**
+     * Remove the least recently used languages from the specified snapshot, until within {@link TranslationUtils#maxLoadedLanguages}
+     * <p>
+     * The default and current languages, alongside any language published in this generation, are never removed
+     *
+     * @param snapshot   The snapshot to interpret
+     * @param generation The current access generation
+     */
+    private void evictLanguages(final Map<String, TranslationTable> snapshot, final long generation) {
+        if (snapshot.size() <= maxLoadedLanguages) return;
+
+        final List<TranslationTable> candidates = getEvictionCandidates(snapshot, generation);
+        for (int i = 0; i < candidates.size() && snapshot.size() > maxLoadedLanguages; i++) {
+            unloadLanguage(snapshot, candidates.get(i).getLanguageId());
+        }
+    }
+
+    /**
+     * Unload any language that has not been used within {@link TranslationUtils#languageExpiry} minutes
+     * <p>
+     * Runs once a minute while an expiry is set, advancing the access generation on each run
+     */
+    private void expireLanguages() {
+        synchronized (requestLock) {
+            expiryGenerations.addLast(++accessGeneration);
+            if (expiryGenerations.size() <= languageExpiry) return;
+
+            // Any table not accessed since this generation was recorded has been unused for the full expiry
+            final long threshold = expiryGenerations.removeFirst();
+            final List<TranslationTable> candidates = getEvictionCandidates(requestMap, threshold);
+            if (candidates.isEmpty()) return;
+
+            final Map<String, TranslationTable> snapshot = StringUtils.newHashMap(requestMap);
+            for (TranslationTable table : candidates) {
+                unloadLanguage(snapshot, table.getLanguageId());
+            }
+            requestMap = Collections.unmodifiableMap(snapshot);
+        }
+    }
+
+    /**
+     * Retrieve the tables within the specified snapshot that may be unloaded, ordered from least to most recently used
+     * <p>
+     * The default and current languages are never included
+     *
+     * @param snapshot  The snapshot to interpret
+     * @param threshold The access generation that tables must have been last accessed before
+     * @return the tables that may be unloaded
+     */
+    private List<TranslationTable> getEvictionCandidates(final Map<String, TranslationTable> snapshot, final long threshold) {
+        final String defaultId = getDefaultLanguage();
+        final List<TranslationTable> candidates = StringUtils.newArrayList();
+        for (TranslationTable table : snapshot.values()) {
+            final String id = table.getLanguageId();
+            if (!id.equals(defaultId) && !id.equals(languageId) && table.getLastAccess() < threshold) {
+                candidates.add(table);
+            }
+        }
+        candidates.sort(Comparator.comparingLong(TranslationTable::getLastAccess));
+        return candidates;
+    }
+
+    /**
+     * Remove the specified language from the specified snapshot
+     *
+     * @param snapshot   The snapshot to modify
+     * @param languageId The language ID to interpret
+     */
+    private void unloadLanguage(final Map<String, TranslationTable> snapshot, final String languageId) {
+        snapshot.remove(languageId);
+        UniCore.LOG.debugInfo("Unloaded translations for " + getModId() + " for " + languageId);
+    }
+
+    /**
+     * Retrieve the translation table for the specified language, loading it if not yet present
+     * <p>
+     * While a language is loading asynchronously, the default language's table is used in its place,
+     * as lookups against its resolved view would fall back to those translations regardless
+     *
+     * @param languageId The language ID to interpret
+     * @return the translation table for this language
+     */
+    private TranslationTable getTranslationTableFrom(final String languageId) {
+        return getTranslationTableFrom(languageId, true);
+    }
+
+    /**
+     * Retrieve the translation table for the specified language, loading it if not yet present
+     *
+     * @param languageId    The language ID to interpret
+     * @param allowFallback Whether to use the default language's table while this language loads asynchronously,
+     *                      rather than an empty table
+     * @return the translation table for this language
+     */
+    private TranslationTable getTranslationTableFrom(final String languageId, final boolean allowFallback) {
+        final TranslationTable table = requestMap.get(languageId);
+        if (table != null) {
+            if (maxLoadedLanguages > 0 || languageExpiry > 0) {
+                table.markAccessed(accessGeneration);
+            }
+            return table;
+        } else if (asyncLoading) {
+            if (!pendingLoads.containsKey(languageId)) {
+                preloadLanguages(languageId);
+            }
+            final TranslationTable defaultTable = allowFallback ? requestMap.get(getDefaultLanguage()) : null;
+            return defaultTable != null ? defaultTable : pendingTable;
+        }
+
+        // Ensure the default language is present, so that it can be used as a fallback
+        final String defaultId = getDefaultLanguage();
+        if (!languageId.equals(defaultId) && !requestMap.containsKey(defaultId)) {
+            loadTranslationsShared(defaultId);
+        }
+        final TranslationTable result = loadTranslationsShared(languageId);
+        final TranslationTable published = requestMap.get(languageId);
+        return published != null ? published : result;
+    }
+
+    /**
+     * Load and publish the translation table for the specified language on the calling thread
+     * <p>
+     * Concurrent requests for the same language wait for, and share, a single load
+     *
+     * @param languageId The language ID to interpret
+     * @return the loaded translation table
+     */
+    private TranslationTable loadTranslationsShared(final String languageId) {
+        final CompletableFuture<TranslationTable> created = new CompletableFuture<>();
+        final CompletableFuture<TranslationTable> existing = pendingLoads.putIfAbsent(languageId, created);
+        if (existing != null) {
+            return existing.join();
+        }
+        try {
+            final TranslationTable result = getTranslationMapFrom(languageId);
+            created.complete(result);
+            return result;
+        } catch (RuntimeException ex) {
+            created.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            pendingLoads.remove(languageId, created);
+        }
+    }
+
     /**
      * Retrieves and Synchronizes a List of Translations from a Language File
      *
      * @param languageId The language ID to interpret
      * @param encoding   The Charset Encoding (Default: UTF-8)
+     * @return the processed list of translations
      */
-    private Map<String, String> getTranslationMapFrom(final String languageId, final String encoding) {
+    private TranslationTable getTranslationMapFrom(final String languageId, final String encoding) {
         return getTranslationMapFrom(languageId, encoding, getLocaleStreamsFrom(languageId));
     }
 
@@ -637,18 +1753,65 @@ public class TranslationUtils {
      * Retrieves and Synchronizes a List of Translations from a Language File
      *
      * @param languageId The language ID to interpret
+     * @return the processed list of translations
      */
-    private Map<String, String> getTranslationMapFrom(final String languageId) {
+    private TranslationTable getTranslationMapFrom(final String languageId) {
         return getTranslationMapFrom(languageId, "UTF-8");
     }
 
     /**
      * Retrieves and Synchronizes a List of Translations from a Language File
+     *
+     * @return the processed list of translations
      */
-    private Map<String, String> getTranslationMap() {
+    private TranslationTable getTranslationMap() {
         return getTranslationMapFrom(languageId);
     }
 
+    /**
+     * Translates an Unlocalized String, based on the translations retrieved for the specified locale
+     * <p>
+     * This does not change the current language, and is safe to call from multiple threads at once
+     *
+     * @param locale          The locale to interpret
+     * @param stripColors     Whether to Remove Color Codes
+     * @param stripFormatting Whether to Remove Formatting Codes
+     * @param translationKey  The raw String to translate
+     * @param parameters      Extra Formatting Arguments, if needed
+     * @return The Localized Translated String
+     */
+    public String translateFrom(final Locale locale, final boolean stripColors, final boolean stripFormatting, final String translationKey, final Object... parameters) {
+        return translateFrom(getLanguageId(locale), stripColors, stripFormatting, translationKey, parameters);
+    }
+
+    /**
+     * Translates an Unlocalized String, based on the translations retrieved for the specified locale
+     * <p>
+     * This does not change the current language, and is safe to call from multiple threads at once
+     *
+     * @param locale         The locale to interpret
+     * @param translationKey The raw String to translate
+     * @param parameters     Extra Formatting Arguments, if needed
+     * @return The Localized Translated String
+     */
+    public String translateFrom(final Locale locale, final String translationKey, final Object... parameters) {
+        return translateFrom(locale, stripColors, stripFormatting, translationKey, parameters);
+    }
+
+    /**
+     * Translates an Unlocalized String, based on the translations retrieved for the specified locale
+     * <p>
+     * This does not change the current language, and is safe to call from multiple threads at once
+     *
+     * @param locale         The locale to interpret
+     * @param translationKey The key handle to translate
+     * @param parameters     Extra Formatting Arguments, if needed
+     * @return The Localized Translated String
+     */
+    public String translateFrom(final Locale locale, final TranslationKey translationKey, final Object... parameters) {
+        return translateFrom(getLanguageId(locale), translationKey, parameters);
+    }
+
     /**
      * Translates an Unlocalized String, based on the translations retrieved for the specified language
      *
@@ -660,40 +1823,259 @@ public class TranslationUtils {
      * @return The Localized Translated String
      */
     public String translateFrom(final String languageId, final boolean stripColors, final boolean stripFormatting, final String translationKey, final Object... parameters) {
-        boolean hasError = false;
-        String translatedString = translationKey;
-        try {
-            if (hasTranslationFrom(languageId, translationKey)) {
-                String rawString = getTranslationFrom(languageId, translationKey);
-                translatedString = parameters.length > 0 ? String.format(rawString, parameters) : rawString;
+        // The resolved table already contains the default language's translations as a fallback
+        final TranslationMetrics metrics = this.metrics;
+        final TranslationTable source = getTranslationTableFrom(languageId);
+        final TranslationTable table = source.getResolved();
+        final boolean hasParameters = parameters.length > 0;
+        // Keys already known to be missing are answered without probing either table
+        final boolean knownMissing = table.isMissing(translationKey);
+        String translatedString = null;
+        if (!knownMissing) {
+            try {
+                translatedString = hasParameters ?
+                        table.format(translationKey, parameters) :
+                        table.get(translationKey, stripColors, stripFormatting);
+            } catch (Exception ex) {
+                UniCore.LOG.error("Exception parsing " + translationKey + " from " + languageId);
+                UniCore.LOG.debugError(ex);
+                if (metrics != null) {
+                    metrics.recordLookup();
+                    metrics.recordFormatException();
+                }
+                return translationKey;
+            }
+        }
+        if (metrics != null) {
+            recordLookup(metrics, source, languageId, translationKey, translatedString != null);
+        }
+
+        if (translatedString == null) {
+            if (!knownMissing && table.recordMissing(translationKey)) {
+                UniCore.LOG.debugError("Unable to retrieve a translation for " + translationKey + " from " + languageId);
+            }
+            return stripTranslation(translationKey, stripColors, stripFormatting);
+        }
+        return hasParameters ? stripTranslation(translatedString, stripColors, stripFormatting) : translatedString;
+    }
+
+    /**
+     * Record the outcome of a translation lookup in the specified metrics
+     *
+     * @param metrics        The metrics to record into
+     * @param source         The translation table the lookup was made against
+     * @param languageId     The language ID that was requested
+     * @param translationKey The raw String that was requested
+     * @param found          Whether a translation was found
+     */
+    private void recordLookup(final TranslationMetrics metrics, final TranslationTable source, final String languageId, final String translationKey, final boolean found) {
+        metrics.recordLookup();
+        if (!found) {
+            metrics.recordMiss();
+        } else if (!source.getLanguageId().equals(languageId) ||
+                (source.getResolved() != source && !source.containsKey(translationKey))) {
+            metrics.recordFallback();
+        }
+    }
+
+    /**
+     * Removes Color and/or Formatting Codes from a Translated String, as requested
+     *
+     * @param translatedString The Translated String to interpret
+     * @param stripColors      Whether to Remove Color Codes
+     * @param stripFormatting  Whether to Remove Formatting Codes
+     * @return The Stripped Translated String
+     */
+    private String stripTranslation(final String translatedString, final boolean stripColors, final boolean stripFormatting) {
+        return TranslationTable.strip(translatedString, stripColors, stripFormatting);
+    }
+
+    /**
+     * Translates multiple Unlocalized Strings at once, based on the translations retrieved for the specified language
+     * <p>
+     * The language table and strip modes are resolved once for the whole batch,
+     * with untranslated keys written to the output as-is
+     *
+     * @param languageId      The language ID to interpret
+     * @param stripColors     Whether to Remove Color Codes
+     * @param stripFormatting Whether to Remove Formatting Codes
+     * @param translationKeys The raw Strings to translate
+     * @param results         The array to store the Localized Translated Strings in, at the same indexes
+     */
+    public void translateAllFrom(final String languageId, final boolean stripColors, final boolean stripFormatting, final String[] translationKeys, final String[] results) {
+        if (results.length < translationKeys.length) {
+            throw new IllegalArgumentException("Output array is too small for the amount of translation keys");
+        }
+        final TranslationMetrics metrics = this.metrics;
+        final TranslationTable source = getTranslationTableFrom(languageId);
+        final TranslationTable table = source.getResolved();
+        for (int i = 0; i < translationKeys.length; i++) {
+            final String translationKey = translationKeys[i];
+            final boolean knownMissing = table.isMissing(translationKey);
+            final String translatedString = knownMissing ? null : table.get(translationKey, stripColors, stripFormatting);
+            if (metrics != null) {
+                recordLookup(metrics, source, languageId, translationKey, translatedString != null);
+            }
+            if (translatedString != null) {
+                results[i] = translatedString;
             } else {
-                hasError = true;
+                if (!knownMissing && table.recordMissing(translationKey)) {
+                    UniCore.LOG.debugError("Unable to retrieve a translation for " + translationKey + " from " + languageId);
+                }
+                results[i] = stripTranslation(translationKey, stripColors, stripFormatting);
             }
-        } catch (Exception ex) {
-            UniCore.LOG.error("Exception parsing " + translationKey + " from " + languageId);
-            UniCore.LOG.debugError(ex);
-            return translationKey;
         }
+    }
 
-        if (hasError) {
-            UniCore.LOG.debugError("Unable to retrieve a translation for " + translationKey + " from " + languageId);
-            if (!languageId.equals(getDefaultLanguage())) {
-                UniCore.LOG.debugError("Attempting to retrieve default translation for " + translationKey);
-                return translateFrom(getDefaultLanguage(), stripColors, stripFormatting, translationKey, parameters);
+    /**
+     * Translates multiple Unlocalized Strings at once, based on the translations retrieved for the current language
+     *
+     * @param translationKeys The raw Strings to translate
+     * @param results         The array to store the Localized Translated Strings in, at the same indexes
+     */
+    public void translateAll(final String[] translationKeys, final String[] results) {
+        translateAllFrom(languageId, stripColors, stripFormatting, translationKeys, results);
+    }
+
+    /**
+     * Translates multiple Unlocalized Strings at once, based on the translations retrieved for the current language
+     *
+     * @param translationKeys The raw Strings to translate
+     * @return the Localized Translated Strings, in the same order as the keys
+     */
+    public Map<String, String> translateAll(final Collection<String> translationKeys) {
+        final String[] keys = translationKeys.toArray(new String[0]);
+        final String[] results = new String[keys.length];
+        translateAll(keys, results);
+
+        final Map<String, String> translations = StringUtils.newLinkedHashMap();
+        for (int i = 0; i < keys.length; i++) {
+            translations.put(keys[i], results[i]);
+        }
+        return translations;
+    }
+
+    /**
+     * Translates multiple key handles at once, based on the translations retrieved for the specified language
+     * <p>
+     * The language table and strip modes are resolved once for the whole batch,
+     * with untranslated keys written to the output as-is
+     *
+     * @param languageId      The language ID to interpret
+     * @param stripColors     Whether to Remove Color Codes
+     * @param stripFormatting Whether to Remove Formatting Codes
+     * @param translationKeys The key handles to translate
+     * @param results         The array to store the Localized Translated Strings in, at the same indexes
+     */
+    public void translateAllFrom(final String languageId, final boolean stripColors, final boolean stripFormatting, final TranslationKey[] translationKeys, final String[] results) {
+        if (results.length < translationKeys.length) {
+            throw new IllegalArgumentException("Output array is too small for the amount of translation keys");
+        }
+        final TranslationMetrics metrics = this.metrics;
+        final TranslationTable source = getTranslationTableFrom(languageId);
+        final TranslationTable table = source.getResolved();
+        for (int i = 0; i < translationKeys.length; i++) {
+            final TranslationKey translationKey = translationKeys[i];
+            final String translatedString = table.get(translationKey, stripColors, stripFormatting);
+            if (metrics != null) {
+                recordLookup(metrics, source, languageId, translationKey.getKey(), translatedString != null);
+            }
+            if (translatedString != null) {
+                results[i] = translatedString;
+            } else {
+                if (table.recordMissing(translationKey.getKey())) {
+                    UniCore.LOG.debugError("Unable to retrieve a translation for " + translationKey + " from " + languageId);
+                }
+                results[i] = stripTranslation(translationKey.getKey(), stripColors, stripFormatting);
             }
         }
-        String result = translatedString;
-        if (stripFormatting && stripColors) {
-            result = StringUtils.stripAllFormatting(result);
-        } else {
-            if (stripColors) {
-                result = StringUtils.stripColors(result);
+    }
+
+    /**
+     * Translates multiple key handles at once, based on the translations retrieved for the current language
+     *
+     * @param translationKeys The key handles to translate
+     * @param results         The array to store the Localized Translated Strings in, at the same indexes
+     */
+    public void translateAll(final TranslationKey[] translationKeys, final String[] results) {
+        translateAllFrom(languageId, stripColors, stripFormatting, translationKeys, results);
+    }
+
+    /**
+     * Retrieve the handle for the specified translation key, for use in index-based lookups
+     * <p>
+     * Handles remain valid across language changes, reloads and instances, and should be retrieved once and stored
+     *
+     * @param translationKey The raw String to interpret
+     * @return the handle for this translation key
+     */
+    public TranslationKey key(final String translationKey) {
+        return keyRegistry.intern(translationKey);
+    }
+
+    /**
+     * Translates an Unlocalized String, based on the translations retrieved for the specified language
+     *
+     * @param languageId      The language ID to interpret
+     * @param stripColors     Whether to Remove Color Codes
+     * @param stripFormatting Whether to Remove Formatting Codes
+     * @param translationKey  The key handle to translate
+     * @param parameters      Extra Formatting Arguments, if needed
+     * @return The Localized Translated String
+     */
+    public String translateFrom(final String languageId, final boolean stripColors, final boolean stripFormatting, final TranslationKey translationKey, final Object... parameters) {
+        final TranslationMetrics metrics = this.metrics;
+        final TranslationTable source = getTranslationTableFrom(languageId);
+        final TranslationTable table = source.getResolved();
+        final boolean hasParameters = parameters.length > 0;
+        String translatedString;
+        try {
+            translatedString = hasParameters ?
+                    table.format(translationKey, parameters) :
+                    table.get(translationKey, stripColors, stripFormatting);
+        } catch (Exception ex) {
+            UniCore.LOG.error("Exception parsing " + translationKey + " from " + languageId);
+            UniCore.LOG.debugError(ex);
+            if (metrics != null) {
+                metrics.recordLookup();
+                metrics.recordFormatException();
             }
-            if (stripFormatting) {
-                result = StringUtils.stripFormatting(result);
+            return translationKey.getKey();
+        }
+        if (metrics != null) {
+            recordLookup(metrics, source, languageId, translationKey.getKey(), translatedString != null);
+        }
+
+        if (translatedString == null) {
+            if (table.recordMissing(translationKey.getKey())) {
+                UniCore.LOG.debugError("Unable to retrieve a translation for " + translationKey + " from " + languageId);
             }
+            return stripTranslation(translationKey.getKey(), stripColors, stripFormatting);
         }
-        return result;
+        return hasParameters ? stripTranslation(translatedString, stripColors, stripFormatting) : translatedString;
+    }
+
+    /**
+     * Translates an Unlocalized String, based on the translations retrieved for the specified language
+     *
+     * @param languageId     The language ID to interpret
+     * @param translationKey The key handle to translate
+     * @param parameters     Extra Formatting Arguments, if needed
+     * @return The Localized Translated String
+     */
+    public String translateFrom(final String languageId, final TranslationKey translationKey, final Object... parameters) {
+        return translateFrom(languageId, stripColors, stripFormatting, translationKey, parameters);
+    }
+
+    /**
+     * Translates an Unlocalized String, based on the translations retrieved for the current language
+     *
+     * @param translationKey The key handle to translate
+     * @param parameters     Extra Formatting Arguments, if needed
+     * @return The Localized Translated String
+     */
+    public String translate(final TranslationKey translationKey, final Object... parameters) {
+        return translateFrom(languageId, translationKey, parameters);
     }
 
     /**
@@ -774,11 +2156,7 @@ public class TranslationUtils {
      * @return whether the specified translation exists
      */
     public boolean hasTranslationFrom(final String languageId, final String translationKey) {
-        if (hasTranslationsFrom(languageId)) {
-            return requestMap.get(languageId).containsKey(translationKey);
-        } else {
-            return getTranslationMapFrom(languageId).containsKey(translationKey);
-        }
+        return getTranslationTableFrom(languageId, false).containsKey(translationKey);
     }
 
     /**
@@ -788,7 +2166,7 @@ public class TranslationUtils {
      * @return whether the specified translation exists
      */
     public boolean hasTranslation(final String translationKey) {
-        return hasTranslationFrom(languageId, translationKey) || hasTranslationFrom(getDefaultLanguage(), translationKey);
+        return getTranslationTableFrom(languageId).getResolved().containsKey(translationKey);
     }
 
     /**
@@ -799,10 +2177,7 @@ public class TranslationUtils {
      * @return whether the specified translation exists
      */
     public String getTranslationFrom(final String languageId, final String translationKey) {
-        if (hasTranslationFrom(languageId, translationKey)) {
-            return requestMap.get(languageId).get(translationKey);
-        }
-        return null;
+        return getTranslationTableFrom(languageId, false).get(translationKey);
     }
 
     /**
@@ -812,9 +2187,6 @@ public class TranslationUtils {
      * @return whether the specified translation exists
      */
     public String getTranslation(final String translationKey) {
-        return StringUtils.getOrDefault(
-                getTranslationFrom(languageId, translationKey),
-                getTranslationFrom(getDefaultLanguage(), translationKey)
-        );
+        return getTranslationTableFrom(languageId).getResolved().get(translationKey);
     }
 }
@@ -25,8 +25,17 @@
 package io.github.cdagaming.unicore;
 
 import com.google.gson.JsonElement;
+import io.github.classgraph.ClassInfo;
 import io.github.cdagaming.unicore.impl.Pair;
+import io.github.cdagaming.unicore.integrations.logging.JavaLogger;
+import io.github.cdagaming.unicore.integrations.logging.LoggingImpl;
+import io.github.cdagaming.unicore.integrations.logging.SLF4JLogger;
+import io.github.cdagaming.unicore.integrations.scanning.ClassScanCache;
+import io.github.cdagaming.unicore.integrations.scanning.ClasspathElement;
+import io.github.cdagaming.unicore.integrations.scanning.ScannedClass;
+import io.github.cdagaming.unicore.integrations.versioning.VersionComparator;
 import io.github.cdagaming.unicore.utils.FileUtils;
+import io.github.cdagaming.unicore.utils.StringUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,6 +44,12 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 
@@ -121,5 +136,148 @@ class FileUtilsTests {
         String fileContent = new String(Files.readAllBytes(testFile.toPath()), encoding);
         assertEquals(content, fileContent);
     }
-}
 
+    @Test
+    void testClassScanCache() {
+        final List<ScannedClass> classes = StringUtils.newArrayList(
+                new ScannedClass("a.Base", Collections.singletonList("java.lang.Object"), Collections.singletonList("a.Marker")),
+                new ScannedClass("a.Child", StringUtils.newArrayList("a.Base", "java.lang.Object"), StringUtils.newArrayList("a.Marker", "a.Other")),
+                new ScannedClass("a.Marker", Collections.emptyList(), Collections.emptyList())
+        );
+        final byte[] settings = ClassScanCache.getSettingsFingerprint("settings");
+        final byte[] fingerprint = ClassScanCache.getElementFingerprint(tempDir);
+        ClassScanCache.write(testFile, settings, Collections.singletonList(
+                new ClasspathElement(tempDir.getAbsolutePath(), fingerprint, classes)
+        ));
+
+        final List<ClasspathElement> cached = ClassScanCache.read(testFile, settings);
+        assertNotNull(cached);
+        assertEquals(1, cached.size());
+        assertEquals(tempDir.getAbsolutePath(), cached.get(0).getPath());
+        assertArrayEquals(fingerprint, cached.get(0).getFingerprint());
+        final List<ScannedClass> cachedClasses = cached.get(0).getClasses();
+        assertEquals(classes.size(), cachedClasses.size());
+        for (int i = 0; i < classes.size(); i++) {
+            assertEquals(classes.get(i).getName(), cachedClasses.get(i).getName());
+            assertEquals(classes.get(i).getSuperclassNames(), cachedClasses.get(i).getSuperclassNames());
+            assertEquals(classes.get(i).getInterfaceNames(), cachedClasses.get(i).getInterfaceNames());
+        }
+
+        // Any change to the scanning options should invalidate the cache
+        assertNull(ClassScanCache.read(testFile, ClassScanCache.getSettingsFingerprint("changed")));
+    }
+
+    @Test
+    void testElementFingerprint() throws Exception {
+        final File classFile = new File(tempDir, "Example.class");
+        Files.write(classFile.toPath(), new byte[]{1, 2, 3});
+        try {
+            final byte[] original = ClassScanCache.getElementFingerprint(tempDir);
+            assertArrayEquals(original, ClassScanCache.getElementFingerprint(tempDir));
+
+            Files.write(classFile.toPath(), new byte[]{1, 2, 3, 4});
+            assertFalse(Arrays.equals(original, ClassScanCache.getElementFingerprint(tempDir)), "Modified elements should be rescanned.");
+        } finally {
+            classFile.delete();
+        }
+    }
+
+    @Test
+    void testScannedClassMap() {
+        FileUtils.setClassCacheFile(testFile);
+        try {
+            FileUtils.clearClassMap(true);
+            final Map<String, ScannedClass> scanned = FileUtils.getScannedClassMap();
+            assertTrue(testFile.length() > 0, "A full scan should populate the class scan cache.");
+
+            FileUtils.clearClassMap(true);
+            assertEquals(scanned.keySet(), FileUtils.getScannedClassMap().keySet());
+            assertFalse(FileUtils.hasScannedClasses(), "Cached results should not require a full scan.");
+
+            // Nothing has changed, so a rescan should keep the current classes
+            FileUtils.rescanClasses();
+            assertEquals(scanned.keySet(), FileUtils.getScannedClassMap().keySet());
+            assertFalse(FileUtils.hasScannedClasses(), "Rescans should not require a full scan.");
+
+            // Class info for matching classes should be retrieved without a full scan
+            assertTrue(FileUtils.getClasses("io.github.cdagaming.unicore.utils").containsKey(FileUtils.class.getName()));
+            assertFalse(FileUtils.hasScannedClasses(), "Class info queries should only scan their matching classes.");
+        } finally {
+            FileUtils.setClassCacheFile(null);
+            FileUtils.clearClassMap(true);
+        }
+    }
+
+    @Test
+    void testGetClassesByPrefix() {
+        final String[] paths = {"io.github.cdagaming.unicore.utils", "io.github.cdagaming.unicore.impl.P", "missing.package"};
+        final Map<String, ScannedClass> results = FileUtils.getScannedClasses(paths);
+        for (Map.Entry<String, ScannedClass> entry : FileUtils.getScannedClassMap().entrySet()) {
+            boolean hasMatch = false;
+            for (String path : paths) {
+                hasMatch |= entry.getKey().startsWith(path);
+            }
+            assertEquals(hasMatch, results.containsKey(entry.getKey()), entry.getKey());
+        }
+        assertEquals(FileUtils.getScannedClassMap().size(), FileUtils.getScannedClasses().size());
+    }
+
+    @Test
+    void testSuperTypeIndex() {
+        final String loggingPackage = "io.github.cdagaming.unicore.integrations.logging";
+        final Set<String> loggers = FileUtils.getScannedClassNamesMatchingSuperType(LoggingImpl.class, loggingPackage);
+        assertTrue(loggers.contains(JavaLogger.class.getName()));
+        assertTrue(loggers.contains(SLF4JLogger.class.getName()));
+        assertTrue(loggers.contains(LoggingImpl.class.getName()));
+        assertEquals(loggers, FileUtils.getClassNamesMatchingSuperType(LoggingImpl.class, loggingPackage).keySet());
+
+        // Subtypes outside the source packages should not be included
+        assertTrue(FileUtils.getScannedClassNamesMatchingSuperType(LoggingImpl.class, "io.github.cdagaming.unicore.utils").isEmpty());
+
+        // Interface implementors should be included, alongside their class hierarchy
+        final Set<String> comparators = FileUtils.getScannedClassNamesMatchingSuperType(Comparator.class, "io.github.cdagaming.unicore.integrations.versioning");
+        assertTrue(comparators.contains(VersionComparator.class.getName()));
+
+        // The target type should be included when within the source packages, even without subtypes
+        assertEquals(Collections.singleton(JavaLogger.class.getName()), FileUtils.getClassNamesMatchingSuperType(JavaLogger.class, loggingPackage).keySet());
+
+        // Super types that were not detected themselves should still link their subtypes
+        final String testPackage = FileUtilsTests.class.getPackage().getName();
+        assertFalse(FileUtils.getScannedClassMap().containsKey(ExcludedMixinType.class.getName()));
+        final Map<String, ClassInfo> hierarchy = FileUtils.getClassNamesMatchingSuperType(BaseType.class, testPackage);
+        assertEquals(StringUtils.newHashSet(BaseType.class.getName(), ExcludedMixinType.class.getName(), ChildType.class.getName()), hierarchy.keySet());
+        assertNotNull(hierarchy.get(ExcludedMixinType.class.getName()));
+    }
+
+    /**
+     * A super type used to test hierarchy queries
+     */
+    static class BaseType {
+    }
+
+    /**
+     * An intermediate super type, excluded from the detected classes by its name
+     */
+    static class ExcludedMixinType extends BaseType {
+    }
+
+    /**
+     * A subtype of {@link BaseType}, through a super type that was not detected itself
+     */
+    static class ChildType extends ExcludedMixinType {
+    }
+
+    @Test
+    void testClassMapViews() {
+        final Map<String, ScannedClass> scanned = FileUtils.getScannedClassMap();
+        assertSame(scanned, FileUtils.getScannedClassMap(), "Class map retrievals should not copy the detected classes.");
+        assertThrows(UnsupportedOperationException.class, () -> scanned.remove(FileUtils.class.getName()));
+        assertThrows(UnsupportedOperationException.class, () -> FileUtils.getScannedClasses("io.github.cdagaming.unicore.utils").clear());
+
+        // Previously retrieved views should be unaffected by later scans
+        final int size = scanned.size();
+        FileUtils.clearClassMap(true);
+        assertEquals(size, scanned.size());
+        assertEquals(scanned.keySet(), FileUtils.getScannedClassMap().keySet());
+    }
+}
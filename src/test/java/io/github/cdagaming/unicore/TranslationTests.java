@@ -24,11 +24,45 @@
 
 package io.github.cdagaming.unicore;
 
+import io.github.cdagaming.unicore.integrations.translation.PackedTranslationMap;
+import io.github.cdagaming.unicore.integrations.translation.ShardedTranslationMap;
+import io.github.cdagaming.unicore.integrations.translation.TranslationCache;
+import io.github.cdagaming.unicore.integrations.translation.TranslationDeprecations;
+import io.github.cdagaming.unicore.integrations.translation.TranslationKey;
+import io.github.cdagaming.unicore.integrations.translation.TranslationKeyRegistry;
+import io.github.cdagaming.unicore.integrations.translation.TranslationMetrics;
+import io.github.cdagaming.unicore.integrations.translation.TranslationRegistry;
+import io.github.cdagaming.unicore.integrations.translation.TranslationShardIndex;
+import io.github.cdagaming.unicore.integrations.translation.TranslationTable;
+import io.github.cdagaming.unicore.integrations.translation.TranslationTemplate;
+import io.github.cdagaming.unicore.utils.FileUtils;
+import io.github.cdagaming.unicore.utils.StringUtils;
 import io.github.cdagaming.unicore.utils.TranslationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TranslationTests {
     private TranslationUtils TRANSLATOR;
@@ -44,4 +78,503 @@ public class TranslationTests {
         String result = TRANSLATOR.getLocalizedMessage("example.text example.subtext");
         assertEquals("Hello World! How are you?", result, "The method should return the correct translation from the JSON content.");
     }
+
+    @Test
+    void testConcurrentResync() throws Exception {
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final Thread syncThread = new Thread(() -> {
+            while (running.get()) {
+                TRANSLATOR.syncTranslations(TRANSLATOR.getDefaultLanguage(), false);
+            }
+        });
+        syncThread.start();
+        try {
+            for (int i = 0; i < 1000; i++) {
+                assertTrue(TRANSLATOR.hasTranslation("example.text"), "Translations should remain visible while being reloaded.");
+            }
+        } finally {
+            running.set(false);
+            syncThread.join();
+        }
+    }
+
+    @Test
+    void testTemplateMatchesFormat() {
+        final String[] patterns = {"Hello %s!", "%2$s then %1$s", "100%% of %s%n", "%s, %s and %s", "Value: %.2f", "%d items"};
+        final Object[][] arguments = {{"World"}, {"a", "b"}, {"tests"}, {"x", null, 3}, {1.5}, {7}};
+        for (int i = 0; i < patterns.length; i++) {
+            assertEquals(String.format(patterns[i], arguments[i]), TranslationTemplate.compile(patterns[i]).format(arguments[i]));
+        }
+    }
+
+    @Test
+    void testMinifiedJson() {
+        final TranslationUtils translator = new TranslationUtils("missing", true)
+                .setCheckDeprecations(false)
+                .setResourceSupplier((instance, path) -> StringUtils.newArrayList(FileUtils.stringToStream(
+                        "{\"a.b\":\"A: \\\"quoted\\\"\",\"c\":\"line\\nbreak\",\"nested\":{\"x\":1},\"d\":2}", "UTF-8"
+                )))
+                .build();
+        assertEquals("A: \"quoted\"", translator.translate("a.b"));
+        assertEquals("line\nbreak", translator.translate("c"));
+        assertEquals("2", translator.translate("d"));
+        assertEquals("nested", translator.translate("nested"));
+    }
+
+    @Test
+    void testPreloadLanguages() {
+        final TranslationUtils translator = new TranslationUtils(UniCore.APP_ID, true).setAsyncLoading(true).build();
+        translator.preloadLanguages("en_US").join();
+        assertTrue(translator.hasTranslationsFrom("en_us"), "Preloaded languages should be published once loading completes.");
+        assertEquals("How are you?", translator.translate("example.subtext"));
+    }
+
+    @Test
+    void testPendingLanguageQueries() throws Exception {
+        final CountDownLatch loading = new CountDownLatch(1);
+        final TranslationUtils translator = new TranslationUtils(UniCore.APP_ID, true)
+                .setAsyncLoading(true)
+                .setResourceSupplier((instance, path) -> {
+                    if (path.endsWith("fr_fr.json")) {
+                        try {
+                            loading.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException ignored) {
+                        }
+                        return StringUtils.newArrayList(FileUtils.stringToStream("{\"example.subtext\":\"Comment allez-vous?\"}", "UTF-8"));
+                    }
+                    return StringUtils.newArrayList(FileUtils.stringToStream("{\"example.text\":\"Hello World!\"}", "UTF-8"));
+                })
+                .build();
+        translator.preloadLanguages("en_us").join();
+        try {
+            // Explicit queries should not report default language data while the language loads
+            assertFalse(translator.hasTranslationFrom("fr_fr", "example.text"));
+            assertNull(translator.getTranslationFrom("fr_fr", "example.text"));
+            assertEquals("Hello World!", translator.translateFrom("fr_fr", "example.text"));
+        } finally {
+            loading.countDown();
+        }
+        translator.preloadLanguages("fr_fr").join();
+        assertEquals("Comment allez-vous?", translator.getTranslationFrom("fr_fr", "example.subtext"));
+    }
+
+    @Test
+    void testTranslationCache() throws Exception {
+        final File cacheDir = Files.createTempDirectory("translationCache").toFile();
+        final File cacheFile = new File(cacheDir, UniCore.APP_ID + "/en_us.json.bin");
+        try {
+            new TranslationUtils(UniCore.APP_ID, true).setCacheDirectory(cacheDir).build();
+            assertTrue(cacheFile.isFile(), "The translation cache should be written after the first load.");
+
+            final TranslationUtils cached = new TranslationUtils(UniCore.APP_ID, true).setCacheDirectory(cacheDir).build();
+            assertEquals("Hello World! How are you?", cached.getLocalizedMessage("example.text example.subtext"));
+
+            // Local Language Files are validated through their metadata, without being read
+            final URL source = FileUtils.getResource(TranslationUtils.class, "/assets/" + UniCore.APP_ID + "/lang/en_us.json");
+            final byte[] sourceHash = TranslationCache.getSourceHash(Collections.singletonList(source), "json");
+            assertNotNull(sourceHash);
+            assertArrayEquals(sourceHash, TranslationCache.getSourceHash(Collections.singletonList(source), "json"));
+            assertNull(TranslationCache.getSourceHash(Collections.singletonList(new URL("http://localhost/en_us.json")), "json"));
+        } finally {
+            cacheFile.delete();
+            cacheFile.getParentFile().delete();
+            cacheDir.delete();
+        }
+    }
+
+    @Test
+    void testTranslationKeys() {
+        final TranslationKey key = TRANSLATOR.key("example.subtext");
+        final TranslationKey missing = TRANSLATOR.key("example.missing");
+        assertEquals(TRANSLATOR.translate("example.subtext"), TRANSLATOR.translate(key));
+        assertEquals("example.missing", TRANSLATOR.translate(missing));
+    }
+
+    @Test
+    void testDefaultLanguageFallback() {
+        final TranslationUtils translator = new TranslationUtils(UniCore.APP_ID, true)
+                .setResourceSupplier((instance, path) -> path.endsWith("fr_fr.json") ?
+                        StringUtils.newArrayList(FileUtils.stringToStream("{\"example.subtext\":\"Comment allez-vous?\"}", "UTF-8")) :
+                        StringUtils.newArrayList())
+                .build();
+        translator.syncTranslations("fr_fr");
+        assertEquals("Comment allez-vous?", translator.translate("example.subtext"));
+        assertEquals("Hello World!", translator.translate("example.text"));
+        assertEquals("example.missing", translator.translate("example.missing"));
+        assertEquals("example.missing", translator.translate("example.missing"));
+
+        // Misses are recorded against the resolved view, and discarded alongside it when translations are republished
+        final TranslationTable primary = new TranslationTable("fr_fr", Collections.singletonMap("example.subtext", "Comment allez-vous?"));
+        final TranslationTable resolved = primary.withFallback(new TranslationTable("en_us", Collections.singletonMap("example.text", "Hello World!"))).getResolved();
+        assertEquals("Hello World!", resolved.get("example.text"));
+        assertFalse(resolved.isMissing("example.missing"));
+        assertTrue(resolved.recordMissing("example.missing"));
+        assertTrue(resolved.isMissing("example.missing"));
+        assertFalse(resolved.recordMissing("example.missing"));
+        assertFalse(primary.withFallback(null).getResolved().isMissing("example.missing"));
+    }
+
+    @Test
+    void testStrippedTranslations() {
+        final TranslationUtils translator = new TranslationUtils(UniCore.APP_ID, true)
+                .setResourceSupplier((instance, path) -> StringUtils.newArrayList(
+                        FileUtils.stringToStream("{\"example.styled\":\"\u00a7aHello \u00a7lWorld\"}", "UTF-8")))
+                .build();
+        for (int i = 0; i < 2; i++) {
+            assertEquals("Hello \u00a7lWorld", translator.translate(true, false, "example.styled"));
+            assertEquals("\u00a7aHello World", translator.translate(false, true, "example.styled"));
+            assertEquals("Hello World", translator.translate(true, true, "example.styled"));
+            assertEquals("\u00a7aHello \u00a7lWorld", translator.translate("example.styled"));
+        }
+    }
+
+    @Test
+    void testLocalizedMessageTokens() {
+        assertEquals("Hello World!", TRANSLATOR.getLocalizedMessage(" example.text "));
+        assertEquals("say Hello World!  now", TRANSLATOR.getLocalizedMessage("say example.text  now"));
+        assertEquals("Hello World! example.texts", TRANSLATOR.getLocalizedMessage("example.text example.texts"));
+        assertEquals("nothing to see", TRANSLATOR.getLocalizedMessage("nothing to see"));
+        assertEquals("", TRANSLATOR.getLocalizedMessage(""));
+    }
+
+    @Test
+    void testStrippedLocalizedMessage() {
+        final TranslationUtils translator = new TranslationUtils(UniCore.APP_ID, true)
+                .setResourceSupplier((instance, path) -> StringUtils.newArrayList(
+                        FileUtils.stringToStream("{\"example.styled\":\"\u00a7aHello \u00a7lWorld\"}", "UTF-8")))
+                .setStripColors(true)
+                .build();
+        assertEquals("say Hello \u00a7lWorld", translator.getLocalizedMessage("say example.styled"));
+
+        translator.setStripFormatting(true);
+        assertEquals("say Hello World", translator.getLocalizedMessage("say example.styled"));
+    }
+
+    @Test
+    void testReloadTranslations() throws Exception {
+        final File resourceDir = Files.createTempDirectory("translationResources").toFile();
+        final File langFile = new File(resourceDir, "lang/fr_fr.json");
+        try {
+            FileUtils.assertFileExists(langFile);
+            Files.write(langFile.toPath(), "{\"example.subtext\":\"Comment allez-vous?\",\"example.old\":\"Vieux\"}".getBytes(StandardCharsets.UTF_8));
+
+            final Map<String, String>[] lastSync = new Map[1];
+            final TranslationUtils translator = new TranslationUtils(UniCore.APP_ID, true)
+                    .setResourceDirectory(resourceDir)
+                    .setOnLanguageSync(data -> lastSync[0] = data)
+                    .build();
+            translator.syncTranslations("fr_fr");
+            assertEquals("Comment allez-vous?", translator.translate("example.subtext"));
+
+            Files.write(langFile.toPath(), "{\"example.subtext\":\"Ca va?\",\"example.new\":\"Nouveau\"}".getBytes(StandardCharsets.UTF_8));
+            translator.reloadTranslations("fr_fr");
+            assertEquals(3, lastSync[0].size());
+            assertEquals("Ca va?", lastSync[0].get("example.subtext"));
+            assertEquals("Nouveau", lastSync[0].get("example.new"));
+            assertTrue(lastSync[0].containsKey("example.old") && lastSync[0].get("example.old") == null);
+            assertEquals("Ca va?", translator.translate("example.subtext"));
+            assertNull(translator.getTranslationFrom("fr_fr", "example.old"));
+            assertEquals("Hello World!", translator.translate("example.text"));
+        } finally {
+            langFile.delete();
+            langFile.getParentFile().delete();
+            resourceDir.delete();
+        }
+    }
+
+    @Test
+    void testLocaleTranslations() throws Exception {
+        final TranslationUtils translator = new TranslationUtils(UniCore.APP_ID, true)
+                .setResourceSupplier((instance, path) -> StringUtils.newArrayList(
+                        FileUtils.stringToStream("{\"example.subtext\":\"" + path + "\"}", "UTF-8")))
+                .setMaxLoadedLanguages(2)
+                .build();
+        assertEquals("lang/fr_fr.json", translator.translateFrom(Locale.FRANCE, "example.subtext"));
+        assertEquals("lang/de_de.json", translator.translateFrom(Locale.GERMANY, "example.subtext"));
+        assertFalse(translator.hasTranslationsFrom("fr_fr"), "The least recently used language should be unloaded.");
+        assertTrue(translator.hasTranslationsFrom(translator.getDefaultLanguage()), "The default language should never be unloaded.");
+
+        final Locale[] locales = {Locale.FRANCE, Locale.GERMANY, Locale.ITALY};
+        final Thread[] workers = new Thread[locales.length];
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        for (int i = 0; i < workers.length; i++) {
+            final Locale locale = locales[i];
+            workers[i] = new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    if (!translator.translateFrom(locale, "example.subtext").equals("lang/" + translator.getLanguageId(locale) + ".json")) {
+                        failed.set(true);
+                    }
+                }
+            });
+            workers[i].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertFalse(failed.get(), "Each thread should receive translations for its own locale.");
+        assertEquals(translator.getDefaultLanguage(), translator.getLanguageId(Locale.US));
+    }
+
+    @Test
+    void testCompactStorage() {
+        final Map<String, String> data = StringUtils.newHashMap();
+        for (int i = 0; i < 100; i++) {
+            data.put("example.key." + i, i % 2 == 0 ? "Shared %s" : "Value " + i);
+        }
+        final TranslationKeyRegistry registry = new TranslationKeyRegistry();
+        final PackedTranslationMap packed = new PackedTranslationMap(data, registry);
+        assertEquals(data, packed);
+        assertNull(packed.get("example.key.missing"));
+        assertEquals(data.size(), registry.size());
+        assertEquals(data, new PackedTranslationMap(data, null));
+        assertSame(packed.get("example.key.1"), packed.get("example.key.1"));
+        assertSame(packed.get("example.key.0"), packed.get("example.key.2"));
+
+        final TranslationUtils translator = new TranslationUtils(UniCore.APP_ID, true)
+                .setCompactStorage(true)
+                .setResourceSupplier((instance, path) -> path.endsWith("fr_fr.json") ?
+                        StringUtils.newArrayList(FileUtils.stringToStream("{\"example.subtext\":\"Comment allez-vous, %s?\"}", "UTF-8")) :
+                        StringUtils.newArrayList())
+                .build();
+        translator.syncTranslations("fr_fr");
+        assertEquals("Comment allez-vous, Steve?", translator.translate("example.subtext", "Steve"));
+        assertEquals("Hello World!", translator.translate(translator.key("example.text")));
+        assertEquals("Hello World! Comment allez-vous, %s?", translator.getLocalizedMessage("example.text example.subtext"));
+        assertSame(translator.key("example.text"), new TranslationUtils(UniCore.APP_ID, true).key("example.text"));
+    }
+
+    @Test
+    void testParallelStreams() {
+        final TranslationUtils translator = new TranslationUtils(UniCore.APP_ID, true)
+                .setResourceSupplier((instance, path) -> {
+                    final List<InputStream> streams = StringUtils.newArrayList();
+                    for (int i = 0; i < 20; i++) {
+                        streams.add(FileUtils.stringToStream("{\"example.pack\":\"Pack " + i + "\",\"example.pack." + i + "\":\"" + i + "\"}", "UTF-8"));
+                    }
+                    streams.add(FileUtils.stringToStream("{\"example.broken\":", "UTF-8"));
+                    streams.add(null);
+                    return streams;
+                })
+                .build();
+        assertEquals("Pack 19", translator.translate("example.pack"), "Later streams should override earlier ones.");
+        assertEquals("7", translator.translate("example.pack.7"));
+        assertEquals("Hello World!", translator.translate("example.text"));
+        assertFalse(translator.hasTranslation("example.broken"), "A stream that fails to parse should be skipped.");
+    }
+
+    @Test
+    void testTranslationMetrics() throws Exception {
+        final TranslationUtils translator = new TranslationUtils(UniCore.APP_ID, true)
+                .setMetricsEnabled(true)
+                .setResourceSupplier((instance, path) -> path.endsWith("fr_fr.json") ?
+                        StringUtils.newArrayList(FileUtils.stringToStream("{\"example.subtext\":\"Comment allez-vous?\"}", "UTF-8")) :
+                        StringUtils.newArrayList())
+                .build();
+        try {
+            translator.syncTranslations("fr_fr");
+            final TranslationMetrics metrics = translator.getMetrics();
+            metrics.reset();
+
+            translator.translate("example.subtext");
+            translator.translate("example.text");
+            translator.translate("example.missing");
+            translator.translate(translator.key("example.text"));
+            assertEquals(4, metrics.getLookupCount());
+            assertEquals(1, metrics.getMissCount());
+            assertEquals(2, metrics.getFallbackCount());
+
+            translator.syncTranslations("fr_fr");
+            assertTrue(metrics.getLoadTimes().get("fr_fr") > 0, "Load times should not round down to zero.");
+            assertTrue(metrics.getBytesParsed() > 0, "Bytes read from Language Files should be recorded.");
+            assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(metrics.getObjectName()));
+        } finally {
+            translator.setMetricsEnabled(false);
+        }
+    }
+
+    @Test
+    void testLanguageNotifications() {
+        final int[] supplierCalls = {0};
+        final TranslationUtils translator = new TranslationUtils(UniCore.APP_ID, true)
+                .setLanguageSupplier(fallback -> {
+                    supplierCalls[0]++;
+                    return fallback;
+                })
+                .setResourceSupplier((instance, path) -> path.endsWith("fr_fr.json") ?
+                        StringUtils.newArrayList(FileUtils.stringToStream("{\"example.subtext\":\"Comment allez-vous?\"}", "UTF-8")) :
+                        StringUtils.newArrayList())
+                .build();
+        translator.notifyLanguageChanged("FR_FR");
+        translator.onTick();
+        translator.onTick();
+        assertEquals("Comment allez-vous?", translator.translate("example.subtext"));
+
+        final int callsBefore = supplierCalls[0];
+        for (int i = 0; i < 10; i++) {
+            translator.onTick();
+        }
+        assertEquals(callsBefore, supplierCalls[0], "The language supplier should not be polled once changes are pushed.");
+        assertEquals("Comment allez-vous?", translator.translate("example.subtext"));
+    }
+
+    @Test
+    void testTranslateAll() {
+        final String[] keys = {"example.text", "example.missing", "example.subtext"};
+        final String[] results = new String[keys.length];
+        TRANSLATOR.translateAll(keys, results);
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(TRANSLATOR.translate(keys[i]), results[i]);
+        }
+
+        final TranslationKey[] handles = {TRANSLATOR.key("example.subtext"), TRANSLATOR.key("example.missing")};
+        final String[] handleResults = new String[handles.length];
+        TRANSLATOR.translateAll(handles, handleResults);
+        assertEquals("How are you?", handleResults[0]);
+        assertEquals("example.missing", handleResults[1]);
+
+        final Map<String, String> translations = TRANSLATOR.translateAll(StringUtils.newArrayList(keys));
+        assertEquals(StringUtils.newArrayList(keys), StringUtils.newArrayList(translations.keySet()));
+        assertEquals("Hello World!", translations.get("example.text"));
+    }
+
+    @Test
+    void testTranslationRegistry() {
+        final TranslationRegistry registry = TranslationRegistry.getInstance().setAsyncLoading(false);
+        final TranslationUtils first = new TranslationUtils(UniCore.APP_ID, true)
+                .setResourceSupplier((instance, path) -> path.endsWith("fr_fr.json") ?
+                        StringUtils.newArrayList(FileUtils.stringToStream("{\"example.subtext\":\"Comment allez-vous?\"}", "UTF-8")) :
+                        StringUtils.newArrayList())
+                .build();
+        final TranslationUtils second = new TranslationUtils("missing_mod", true).build();
+        registry.register(first);
+        registry.register(second);
+        try {
+            registry.onTick();
+            registry.notifyLanguageChanged("fr_fr");
+            registry.onTick();
+            assertEquals("fr_fr", registry.getLanguage());
+            assertTrue(first.hasTranslationsFrom("fr_fr") && second.hasTranslationsFrom("fr_fr"), "All namespaces should be loaded together.");
+            assertEquals("Comment allez-vous?", first.translate("example.subtext"));
+            assertEquals("example.subtext", second.translate("example.subtext"));
+
+            // A failing sync listener must not leave the switch pending
+            first.setOnLanguageSync(translations -> {
+                throw new IllegalStateException("Listener failure");
+            });
+            registry.notifyLanguageChanged("de_de");
+            registry.onTick();
+            assertEquals("de_de", registry.getLanguage());
+            first.setOnLanguageSync(null);
+            registry.notifyLanguageChanged("fr_fr");
+            registry.onTick();
+            assertEquals("fr_fr", registry.getLanguage());
+        } finally {
+            registry.unregister(first);
+            registry.unregister(second);
+            // Return the process-wide registry to polling the default language
+            registry.notifyLanguageChanged(null);
+            registry.onTick();
+            registry.setAsyncLoading(true);
+        }
+    }
+
+    @Test
+    void testShardedTranslations() {
+        final StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < 50; i++) {
+            sb.append("\"gui.config.option").append(i).append("\":\"Option ").append(i).append("\",");
+            sb.append("\"item.example").append(i).append("\":{\"nested\":[1,2]},");
+        }
+        sb.append("\"gui.title\":\"Title %s\"}");
+        final String[] source = {sb.toString()};
+        final Map<String, String>[] lastSync = new Map[1];
+        final TranslationUtils translator = new TranslationUtils(UniCore.APP_ID, true)
+                .setShardDepth(2)
+                .setResourceSupplier((instance, path) -> path.endsWith("fr_fr.json") ?
+                        StringUtils.newArrayList(FileUtils.stringToStream(source[0], "UTF-8")) :
+                        StringUtils.newArrayList())
+                .build();
+        translator.syncTranslations("fr_fr");
+        assertEquals("Option 7", translator.translate("gui.config.option7"));
+        assertEquals("Title Example", translator.translate("gui.title", "Example"));
+        assertEquals("Hello World!", translator.translate("example.text"));
+        assertEquals("Hello World!", translator.translate(translator.key("example.text")));
+        assertEquals("item.example3", translator.translate("item.example3"));
+        assertFalse(translator.hasTranslation("example.text.new"), "Deprecations should apply to sharded languages.");
+
+        // Reloading should keep the language sharded, rather than rebuilding it as an eager table
+        translator.setOnLanguageSync(data -> lastSync[0] = data);
+        source[0] = source[0].replace("Option 7", "Option Seven");
+        translator.reloadTranslations("fr_fr");
+        assertEquals("Option Seven", translator.translate("gui.config.option7"));
+        assertTrue(lastSync[0] instanceof ShardedTranslationMap);
+    }
+
+    @Test
+    void testShardIndexContents() throws Exception {
+        final String lang = "# comment\r\n  gui.config.a = Älpha\r\ngui.title=Title\n[{}] section\ngui.config.b=Beta\n\nplain=Plain";
+        final TranslationShardIndex index = TranslationShardIndex.build(
+                StringUtils.newArrayList(lang.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, false, 2
+        );
+        assertNotNull(index);
+        assertEquals(4, index.getEntryCount());
+        assertEquals(StringUtils.newHashSet("gui.config", "gui", ""), index.getShardNames());
+        final byte[] configShard = index.getShardData("gui.config");
+        assertEquals("  gui.config.a = Älpha\ngui.config.b=Beta", new String(configShard, StandardCharsets.UTF_8));
+
+        // Moved contents should be read back from their file, rather than retained in memory
+        final File file = File.createTempFile("shards", ".tmp");
+        try {
+            assertTrue(index.moveContentsTo(file));
+            assertArrayEquals(configShard, index.getShardData("gui.config"));
+            assertEquals("plain=Plain", new String(index.getShardData(""), StandardCharsets.UTF_8));
+            assertNull(index.getShardData("missing"));
+        } finally {
+            file.delete();
+        }
+        assertNull(index.getShardData("gui"), "Shards should be unavailable once their file is removed.");
+    }
+
+    @Test
+    void testCompiledDeprecations() {
+        final Map<String, String> renamed = StringUtils.newHashMap();
+        renamed.put("old.name", "new.name");
+        renamed.put("old.missing", "new.missing");
+        renamed.put("old.removed", "new.removed");
+        final TranslationDeprecations deprecations = new TranslationDeprecations(
+                StringUtils.newArrayList("gone", "old.removed"), renamed
+        );
+
+        final Map<String, String> source = StringUtils.newLinkedHashMap();
+        source.put("new.name", "Stale");
+        source.put("old.name", "Current");
+        source.put("new.missing", "Orphaned");
+        source.put("new.removed", "Orphaned");
+        source.put("old.removed", "Removed");
+        source.put("gone", "Removed");
+        source.put("kept", "Kept");
+
+        final Map<String, String> parsed = StringUtils.newHashMap();
+        source.forEach((key, value) -> deprecations.put(parsed, key, value));
+        final Map<String, String> applied = StringUtils.newHashMap(source);
+        deprecations.apply(applied);
+
+        assertEquals(applied, parsed);
+        assertEquals("Current", parsed.get("new.name"));
+        assertEquals("Kept", parsed.get("kept"));
+        assertEquals(2, parsed.size());
+        assertEquals("old.name", deprecations.getSourceKey("new.name"));
+        assertNull(deprecations.getSourceKey("old.name"));
+        assertNull(deprecations.getSourceKey("new.removed"));
+        assertEquals("kept", TranslationDeprecations.EMPTY.getStoredKey("kept"));
+
+        // Rule sets with colliding hash codes must still be told apart
+        assertEquals(deprecations.getFingerprint(), new TranslationDeprecations(
+                StringUtils.newArrayList("old.removed", "gone"), renamed
+        ).getFingerprint());
+        assertNotEquals(
+                new TranslationDeprecations(StringUtils.newArrayList("Aa"), Collections.emptyMap()).getFingerprint(),
+                new TranslationDeprecations(StringUtils.newArrayList("BB"), Collections.emptyMap()).getFingerprint()
+        );
+    }
 }